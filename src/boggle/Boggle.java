@@ -106,9 +106,11 @@ public class Boggle {
 	public Set<String> solve() {
 
 		Set<String> allWord = new HashSet<>();
+		LexicographicTree.Cursor cursor = dictionary.cursor();
+		StringBuilder currentWord = new StringBuilder();
 
 		for (BoggleNode node : graph.vertexSet()) {
-			searchForOneLetter(node, "", allWord);
+			searchForOneLetter(node, cursor, currentWord, allWord);
 		}
 
 		return allWord;
@@ -140,38 +142,45 @@ public class Boggle {
 	 */
 	/**
      * Traverses the graph starting from a node and finds valid words.
+     * The cursor follows the current word in the dictionary, so each new letter
+     * costs one step instead of a search from the root.
      * @param node The node to start from
+     * @param cursor The dictionary cursor positioned on the current word
      * @param currentWord The current word built up during traversal
      * @param allWord The set to store all found words
      */
-	private void searchForOneLetter(BoggleNode node, String currentWord, Set<String> allWord) {
+	private void searchForOneLetter(BoggleNode node, LexicographicTree.Cursor cursor, StringBuilder currentWord,
+			Set<String> allWord) {
 
 		if (node.isVisited()) {
 			return;
 		}
 
-		currentWord += node.getValue();
+		currentWord.append(node.getValue());
 		
 		long startTimeHasPrefix = System.currentTimeMillis();
-		int num = dictionary.hasPrefixOrWord(currentWord);
+		cursor.advance(node.getValue());
+		int num = cursor.status();
 		timeHasPrefix += System.currentTimeMillis()- startTimeHasPrefix;
 		
 		if (num == 1 && currentWord.length() >= 3) {
 			long startTimeAdd = System.currentTimeMillis();
-			allWord.add(currentWord);
+			allWord.add(currentWord.toString());
 			timeAdd += System.currentTimeMillis()- startTimeAdd;
 		}
 
-		if (num == -1)
-			return;
+		if (num != -1) {
+			node.setVisited(true);
 
-		node.setVisited(true);
+			for (DefaultWeightedEdge edge : graph.edgesOf(node)) {
+				searchForOneLetter(getNeighborOfEdge(edge, node), cursor, currentWord, allWord);
+			}
 
-		for (DefaultWeightedEdge edge : graph.edgesOf(node)) {
-			searchForOneLetter(getNeighborOfEdge(edge, node), currentWord, allWord);
+			node.setVisited(false);
 		}
 
-		node.setVisited(false);
+		cursor.back();
+		currentWord.setLength(currentWord.length() - 1);
 	}
 	 /**
      * Retrieves the neighbour node for a given edge.
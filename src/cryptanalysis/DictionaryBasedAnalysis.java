@@ -29,6 +29,7 @@ public class DictionaryBasedAnalysis {
 
 	private LexicographicTree dictionary;
 	private List<String> cryptogramWords;
+	private char[] decryptBuffer;
 
 	private static long getCompatibleWordTime = 0;
 	private static long RecreatAlphaTime = 0;
@@ -45,6 +46,7 @@ public class DictionaryBasedAnalysis {
                 .sorted(Comparator.comparingInt(String::length).reversed())
                 .collect(Collectors.toList());
 		this.dictionary = dict;
+		this.decryptBuffer = new char[cryptogramWords.isEmpty() ? 0 : cryptogramWords.get(0).length()];
 
 	}
 
@@ -76,7 +78,7 @@ public class DictionaryBasedAnalysis {
 
 			// condition si le mot est deja decrypter il n'est plus utilse il ne modifiera
 			// pas l'aphabet
-			if (dictionary.containsWord(applySubstitution(wordCrypt, betterAlpha).toLowerCase())) {
+			if (dictionary.containsWord(decryptBuffer, 0, decryptLowerCase(wordCrypt, betterAlpha))) {
 				continue;
 			}
 			// permet de faire moin appel au dictionnaire
@@ -268,8 +270,7 @@ public class DictionaryBasedAnalysis {
 		int numWordDecrypt = 0;
 
 		for (String word : cryptogramWords) {
-			String decrypt = applySubstitution(word, alphabet).toLowerCase();
-			if (dictionary.containsWord(decrypt))
+			if (dictionary.containsWord(decryptBuffer, 0, decryptLowerCase(word, alphabet)))
 				numWordDecrypt++;
 		}
 		scoreAlphaTime += System.currentTimeMillis() - startTime;
@@ -280,6 +281,28 @@ public class DictionaryBasedAnalysis {
 		return numWordDecrypt;
 	}
 	
+	/**
+	 * Decrypts a cryptogram word in lowercase into the decrypt buffer, like
+	 * applySubstitution(word, alphabet).toLowerCase() but without building any
+	 * String.
+	 *
+	 * @param word     A word of the cryptogram
+	 * @param alphabet A valid substitution alphabet
+	 * @return The number of characters written in the buffer
+	 */
+	private int decryptLowerCase(String word, String alphabet) {
+		int length = 0;
+		for (int i = 0; i < word.length(); i++) {
+			char c = Character.toUpperCase(word.charAt(i));
+			if (!Character.isLetter(c) && c != ' ' && c != '\n')
+				continue;
+
+			int index = LETTERS.indexOf(c);
+			decryptBuffer[length++] = Character.toLowerCase(index >= 0 ? alphabet.charAt(index) : c);
+		}
+		return length;
+	}
+
 	/**
 	 * Updates a given alphabet based on a given encrypted word and its corresponding dictionary word.
 	 *
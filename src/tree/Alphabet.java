@@ -0,0 +1,219 @@
+package tree;
+
+import java.text.Normalizer;
+import java.util.Objects;
+
+/**
+ * Letters a {@link LexicographicTree} can store, each mapped to a small code :
+ * its index in the alphabet. Input characters are mapped to codes once, when
+ * they enter the tree ; the tree only stores and compares codes.
+ *
+ * <p>
+ * Mapping a character follows explicit rules :
+ * <ol>
+ * <li>a letter of the alphabet maps to itself ;</li>
+ * <li>with case folding, an uppercase letter maps to its lowercase letter ;</li>
+ * <li>with accent stripping, an accented letter maps to its letter without
+ * accents ("é" to "e", "Ç" to "c" if case folding is also on) ;</li>
+ * <li>any other character cannot be mapped : it is skipped when a word is
+ * inserted and a word holding it is never found.</li>
+ * </ol>
+ * Ligatures such as "œ" are not split and cannot be mapped.
+ *
+ * <p>
+ * The letters of an alphabet are given in increasing character order, so that
+ * the order of the codes is the order of {@link String#compareTo(String)}.
+ * Alphabets are immutable.
+ */
+public final class Alphabet {
+
+	/** Greatest number of letters : the children of a node are a bitmap of codes. */
+	public static final int MAX_SIZE = Integer.SIZE;
+
+	/**
+	 * Alphabet of the French dictionary without accents : '\'', '-' and the
+	 * lowercase letters, without case folding nor accent stripping.
+	 */
+	public static final Alphabet FRENCH = of("'-abcdefghijklmnopqrstuvwxyz");
+
+	/** Characters whose mapping is computed once, covering the Latin letters. */
+	private static final int TABLE_SIZE = 0x250;
+
+	private final String letters;
+	private final boolean caseFolding;
+	private final boolean accentStripping;
+	/** Code of each character below TABLE_SIZE, -1 if it cannot be mapped. */
+	private final byte[] table = new byte[TABLE_SIZE];
+
+	private Alphabet(String letters, boolean caseFolding, boolean accentStripping) {
+		this.letters = letters;
+		this.caseFolding = caseFolding;
+		this.accentStripping = accentStripping;
+		for (char c = 0; c < TABLE_SIZE; c++) {
+			table[c] = (byte) map(c);
+		}
+	}
+
+	/**
+	 * Creates an alphabet without case folding nor accent stripping.
+	 *
+	 * @param letters The letters, in increasing order
+	 * @return The alphabet
+	 * @throws IllegalArgumentException if there are no letters, more than
+	 *                                  {@link #MAX_SIZE}, or if they are not in
+	 *                                  increasing order
+	 */
+	public static Alphabet of(String letters) {
+		if (letters.isEmpty() || letters.length() > MAX_SIZE) {
+			throw new IllegalArgumentException("an alphabet has 1 to " + MAX_SIZE + " letters : " + letters);
+		}
+		for (int i = 1; i < letters.length(); i++) {
+			if (letters.charAt(i - 1) >= letters.charAt(i)) {
+				throw new IllegalArgumentException("letters not in increasing order : " + letters);
+			}
+		}
+		return new Alphabet(letters, false, false);
+	}
+
+	/**
+	 * Returns an alphabet with the same letters that also maps uppercase letters
+	 * to their lowercase letter.
+	 *
+	 * @return The alphabet with case folding
+	 */
+	public Alphabet withCaseFolding() {
+		return new Alphabet(letters, true, accentStripping);
+	}
+
+	/**
+	 * Returns an alphabet with the same letters that also maps accented letters to
+	 * their letter without accents.
+	 *
+	 * @return The alphabet with accent stripping
+	 */
+	public Alphabet withAccentStripping() {
+		return new Alphabet(letters, caseFolding, true);
+	}
+
+	/**
+	 * Returns the number of letters.
+	 *
+	 * @return The number of letters, also the number of codes
+	 */
+	public int size() {
+		return letters.length();
+	}
+
+	/**
+	 * Returns the letters of the alphabet.
+	 *
+	 * @return The letters, in the order of their codes
+	 */
+	public String letters() {
+		return letters;
+	}
+
+	/**
+	 * Returns the letter of a code.
+	 *
+	 * @param code A code, from 0 to size() - 1
+	 * @return The letter of the code
+	 */
+	public char letter(int code) {
+		return letters.charAt(code);
+	}
+
+	/**
+	 * Returns the code a character maps to.
+	 *
+	 * @param c A character
+	 * @return The code of the character, or -1 if it cannot be mapped
+	 */
+	public int code(char c) {
+		return c < TABLE_SIZE ? table[c] : map(c);
+	}
+
+	/**
+	 * Maps the characters of a word to the letters of the alphabet, skipping the
+	 * characters that cannot be mapped : the word as it is stored in a tree.
+	 *
+	 * @param word A word
+	 * @return The normalized word
+	 */
+	public String normalize(CharSequence word) {
+		char[] normalized = new char[word.length()];
+		int length = 0;
+		for (int i = 0; i < word.length(); i++) {
+			int code = code(word.charAt(i));
+			if (code >= 0) {
+				normalized[length++] = letters.charAt(code);
+			}
+		}
+		return new String(normalized, 0, length);
+	}
+
+	/**
+	 * Determines if uppercase letters are mapped to lowercase letters.
+	 *
+	 * @return True if case folding is on, false otherwise
+	 */
+	public boolean isCaseFolding() {
+		return caseFolding;
+	}
+
+	/**
+	 * Determines if accented letters are mapped to letters without accents.
+	 *
+	 * @return True if accent stripping is on, false otherwise
+	 */
+	public boolean isAccentStripping() {
+		return accentStripping;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof Alphabet)) {
+			return false;
+		}
+		Alphabet other = (Alphabet) obj;
+		return letters.equals(other.letters) && caseFolding == other.caseFolding
+				&& accentStripping == other.accentStripping;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(letters, caseFolding, accentStripping);
+	}
+
+	@Override
+	public String toString() {
+		return "Alphabet[" + letters + (caseFolding ? ", case folding" : "")
+				+ (accentStripping ? ", accent stripping" : "") + "]";
+	}
+
+	/**
+	 * Applies the mapping rules to a character.
+	 *
+	 * @param c A character
+	 * @return The code of the character, or -1 if it cannot be mapped
+	 */
+	private int map(char c) {
+		int code = letters.indexOf(c);
+		if (code >= 0) {
+			return code;
+		}
+		char folded = caseFolding ? Character.toLowerCase(c) : c;
+		code = letters.indexOf(folded);
+		if (code >= 0 || !accentStripping) {
+			return code;
+		}
+		// lettre de base suivie uniquement de diacritiques
+		String decomposed = Normalizer.normalize(String.valueOf(folded), Normalizer.Form.NFD);
+		if (decomposed.length() < 2 || !decomposed.chars().skip(1)
+				.allMatch(m -> Character.getType(m) == Character.NON_SPACING_MARK)) {
+			return -1;
+		}
+		char base = decomposed.charAt(0);
+		return letters.indexOf(caseFolding ? Character.toLowerCase(base) : base);
+	}
+}
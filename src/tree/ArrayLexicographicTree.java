@@ -0,0 +1,295 @@
+package tree;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lexicographic tree storing its nodes in parallel primitive arrays instead of
+ * {@link LetterNode} objects. A node is an index : its first child, next
+ * sibling, letter and leaf flag live at that index in the arrays below. The
+ * arrays are split in fixed-size chunks so that growing the tree never copies
+ * the nodes already allocated.
+ */
+public class ArrayLexicographicTree implements Lexicon {
+
+	private static final int CHUNK_BITS = 14;
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	private static final int NONE = -1;
+	private static final int ROOT = 0;
+
+	private int[][] child = new int[0][];
+	private int[][] sibling = new int[0][];
+	private char[][] label = new char[0][];
+	private long[][] leaf = new long[0][];
+	private int nodeCount;
+	private int wordCount;
+
+	/*
+	 * CONSTRUCTORS
+	 */
+
+	/**
+	 * Constructor : creates an empty lexicographic tree.
+	 */
+	public ArrayLexicographicTree() {
+		newNode('\0');
+	}
+
+	/**
+	 * Constructor : creates a lexicographic tree populated with words
+	 *
+	 * @param filename A text file containing the words to be inserted in the tree
+	 */
+	public ArrayLexicographicTree(String filename) {
+		this();
+		try {
+			for (String str : Files.readAllLines(Paths.get(filename))) {
+				insertWord(str);
+			}
+		} catch (IOException e) {
+			// same behaviour as LexicographicTree : an unreadable file gives an empty
+			// dictionary
+		}
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	@Override
+	public int size() {
+		return wordCount;
+	}
+
+	/**
+	 * Inserts a word in the lexicographic tree if not already present. Characters
+	 * that are not lowercase letters, '-' or '\'' are skipped, as in
+	 * {@link LexicographicTree#insertWord(String)}.
+	 *
+	 * @param word A word
+	 */
+	public void insertWord(String word) {
+		if (word == null) {
+			return;
+		}
+		int node = ROOT;
+		for (int i = 0; i < word.length(); i++) {
+			char c = word.charAt(i);
+			if (LexicographicTree.isValidLetter(c)) {
+				node = getOrCreateChild(node, c);
+			}
+		}
+		if (!isLeaf(node)) {
+			setLeaf(node);
+			wordCount++;
+		}
+	}
+
+	@Override
+	public boolean containsWord(String word) {
+		if (word == null || word.isEmpty()) {
+			return false;
+		}
+		int node = getNodeForPrefix(word);
+		return node != NONE && isLeaf(node);
+	}
+
+	@Override
+	public List<String> getWords(String prefix) {
+		List<String> words = new ArrayList<>();
+		int node = getNodeForPrefix(prefix);
+		if (node != NONE) {
+			collectWords(node, new StringBuilder(prefix), words, -1);
+		}
+		return words;
+	}
+
+	@Override
+	public List<String> getWordsOfLength(int length) {
+		List<String> words = new ArrayList<>();
+		if (length >= 0) {
+			collectWords(ROOT, new StringBuilder(), words, length);
+		}
+		return words;
+	}
+
+	@Override
+	public int hasPrefixOrWord(String prefix) {
+		int node = getNodeForPrefix(prefix);
+		if (node == NONE) {
+			return -1;
+		}
+		return isLeaf(node) ? 1 : 0;
+	}
+
+	/**
+	 * Returns the number of nodes of the tree, root included.
+	 *
+	 * @return The number of nodes
+	 */
+	public int nodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Returns the number of bytes held by the node arrays, including the unused
+	 * part of the last chunk.
+	 *
+	 * @return The memory used by the tree in bytes
+	 */
+	public long memoryUsage() {
+		long perNode = Integer.BYTES + Integer.BYTES + Character.BYTES;
+		return child.length * (CHUNK_SIZE * perNode + CHUNK_SIZE / Byte.SIZE);
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Walks the tree along the given prefix.
+	 *
+	 * @param prefix The prefix to search for.
+	 * @return The index of the node corresponding to the prefix, or NONE if not
+	 *         found.
+	 */
+	private int getNodeForPrefix(String prefix) {
+		int node = ROOT;
+		for (int i = 0; i < prefix.length() && node != NONE; i++) {
+			node = findChild(node, prefix.charAt(i));
+		}
+		return node;
+	}
+
+	/**
+	 * Finds the child of a node holding the given letter.
+	 *
+	 * @param node The parent node
+	 * @param c    The letter to find
+	 * @return The index of the child, or NONE if not found.
+	 */
+	private int findChild(int node, char c) {
+		for (int ch = child(node); ch != NONE; ch = sibling(ch)) {
+			char value = label(ch);
+			if (value == c) {
+				return ch;
+			} else if (value > c) {
+				break;
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Finds the child of a node holding the given letter, inserting it in the
+	 * sorted sibling list if missing.
+	 *
+	 * @param node The parent node
+	 * @param c    The letter to find
+	 * @return The index of the child
+	 */
+	private int getOrCreateChild(int node, char c) {
+		int prev = NONE;
+		int ch = child(node);
+		while (ch != NONE && label(ch) < c) {
+			prev = ch;
+			ch = sibling(ch);
+		}
+		if (ch != NONE && label(ch) == c) {
+			return ch;
+		}
+		int newNode = newNode(c);
+		setSibling(newNode, ch);
+		if (prev != NONE) {
+			setSibling(prev, newNode);
+		} else {
+			setChild(node, newNode);
+		}
+		return newNode;
+	}
+
+	/**
+	 * Collects the words below a node, all of them or only those of a given
+	 * length.
+	 *
+	 * @param node   The current node being examined.
+	 * @param word   The letters leading to the node, restored before returning.
+	 * @param words  The list of words found.
+	 * @param length The expected word length, or -1 for every length.
+	 */
+	private void collectWords(int node, StringBuilder word, List<String> words, int length) {
+		if (isLeaf(node) && (length < 0 || word.length() == length)) {
+			words.add(word.toString());
+		}
+		if (length >= 0 && word.length() >= length) {
+			return;
+		}
+		for (int ch = child(node); ch != NONE; ch = sibling(ch)) {
+			word.append(label(ch));
+			collectWords(ch, word, words, length);
+			word.setLength(word.length() - 1);
+		}
+	}
+
+	/**
+	 * Allocates a node, adding a chunk to every array when the last one is full.
+	 *
+	 * @param c The letter of the node
+	 * @return The index of the new node
+	 */
+	private int newNode(char c) {
+		int index = nodeCount;
+		int chunk = index >>> CHUNK_BITS;
+		if (chunk == child.length) {
+			child = Arrays.copyOf(child, chunk + 1);
+			sibling = Arrays.copyOf(sibling, chunk + 1);
+			label = Arrays.copyOf(label, chunk + 1);
+			leaf = Arrays.copyOf(leaf, chunk + 1);
+			child[chunk] = new int[CHUNK_SIZE];
+			sibling[chunk] = new int[CHUNK_SIZE];
+			label[chunk] = new char[CHUNK_SIZE];
+			leaf[chunk] = new long[CHUNK_SIZE / Long.SIZE];
+		}
+		int offset = index & CHUNK_MASK;
+		child[chunk][offset] = NONE;
+		sibling[chunk][offset] = NONE;
+		label[chunk][offset] = c;
+		nodeCount++;
+		return index;
+	}
+
+	private int child(int node) {
+		return child[node >>> CHUNK_BITS][node & CHUNK_MASK];
+	}
+
+	private void setChild(int node, int value) {
+		child[node >>> CHUNK_BITS][node & CHUNK_MASK] = value;
+	}
+
+	private int sibling(int node) {
+		return sibling[node >>> CHUNK_BITS][node & CHUNK_MASK];
+	}
+
+	private void setSibling(int node, int value) {
+		sibling[node >>> CHUNK_BITS][node & CHUNK_MASK] = value;
+	}
+
+	private char label(int node) {
+		return label[node >>> CHUNK_BITS][node & CHUNK_MASK];
+	}
+
+	private boolean isLeaf(int node) {
+		int offset = node & CHUNK_MASK;
+		return (leaf[node >>> CHUNK_BITS][offset >>> 6] & (1L << offset)) != 0;
+	}
+
+	private void setLeaf(int node) {
+		int offset = node & CHUNK_MASK;
+		leaf[node >>> CHUNK_BITS][offset >>> 6] |= 1L << offset;
+	}
+}
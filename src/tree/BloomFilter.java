@@ -0,0 +1,282 @@
+package tree;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compact membership filter placed in front of the words of a
+ * {@link LexicographicTree}. It answers "certainly absent" or "maybe present"
+ * : a word it rejects is absent without walking the tree, a word it accepts is
+ * then searched in the tree. The filter never rejects a word of the tree.
+ *
+ * <p>
+ * A word is hashed from the codes of its letters, so two spellings mapped to
+ * the same word by the {@link Alphabet} of the tree share their hash. The bits
+ * are split in blocks of 512 bits, the size of a cache line : each word sets
+ * {@link #hashCount()} bits inside a single block, so a lookup reads one cache
+ * line whatever the number of hashes ; the price is a false positive rate a
+ * little above the target, about 1.2 % for 1 %. Removing a word from the tree
+ * leaves its bits set : the filter only gets less selective, until it is built
+ * again.
+ *
+ * <p>
+ * The filter is created by {@link LexicographicTree#enableBloomFilter(double)}
+ * ; the methods here give its statistics. Lookups may run concurrently.
+ */
+public final class BloomFilter {
+
+	private static final long SEED = 0xcbf29ce484222325L;
+	private static final long PRIME = 0x100000001b3L;
+	/** Number of longs of a block : 8 longs, 64 bytes. */
+	private static final int BLOCK_LONGS = 8;
+	private static final int BLOCK_BITS = BLOCK_LONGS * Long.SIZE;
+
+	private final long[] bits;
+	private final long bitCount;
+	private final long blockCount;
+	private final int hashCount;
+	private final double targetFalsePositiveRate;
+	private long setBits;
+	private long wordCount;
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder falsePositives = new LongAdder();
+
+	/**
+	 * Constructor : creates an empty filter sized for a number of words.
+	 *
+	 * @param expectedWords     The number of words the filter will hold
+	 * @param falsePositiveRate The wanted probability that an absent word is
+	 *                          accepted, between 0 and 1 excluded
+	 * @throws IllegalArgumentException if the rate is not between 0 and 1
+	 */
+	BloomFilter(long expectedWords, double falsePositiveRate) {
+		if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+			throw new IllegalArgumentException("false positive rate not in ]0, 1[ : " + falsePositiveRate);
+		}
+		long words = Math.max(1, expectedWords);
+		// tailles optimales : m = -n ln p / (ln 2)^2 et k = m / n ln 2
+		long m = (long) Math.ceil(-words * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.blockCount = Math.min((Integer.MAX_VALUE - 8) / BLOCK_LONGS, (m + BLOCK_BITS - 1) / BLOCK_BITS);
+		this.bits = new long[(int) blockCount * BLOCK_LONGS];
+		this.bitCount = blockCount * BLOCK_BITS;
+		this.hashCount = (int) Math.max(1, Math.round((double) bitCount / words * Math.log(2)));
+		this.targetFalsePositiveRate = falsePositiveRate;
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Returns the number of bits of the filter.
+	 *
+	 * @return The number of bits
+	 */
+	public long bitCount() {
+		return bitCount;
+	}
+
+	/**
+	 * Returns the number of bits set for each word.
+	 *
+	 * @return The number of hash functions
+	 */
+	public int hashCount() {
+		return hashCount;
+	}
+
+	/**
+	 * Returns the number of words added to the filter.
+	 *
+	 * @return The number of words
+	 */
+	public long wordCount() {
+		return wordCount;
+	}
+
+	/**
+	 * Returns the number of bytes of the bit array.
+	 *
+	 * @return The memory used by the filter in bytes
+	 */
+	public long memoryUsage() {
+		return (long) bits.length * Long.BYTES;
+	}
+
+	/**
+	 * Returns the false positive rate the filter was sized for.
+	 *
+	 * @return The wanted false positive rate
+	 */
+	public double targetFalsePositiveRate() {
+		return targetFalsePositiveRate;
+	}
+
+	/**
+	 * Returns the probability that an absent word is accepted, computed from the
+	 * proportion of bits set. It grows above the target rate when more words are
+	 * added than the filter was sized for.
+	 *
+	 * @return The estimated false positive rate
+	 */
+	public double estimatedFalsePositiveRate() {
+		return Math.pow((double) setBits / bitCount, hashCount);
+	}
+
+	/**
+	 * Returns the number of lookups rejected by the filter, thus answered without
+	 * walking the tree.
+	 *
+	 * @return The number of rejected lookups
+	 */
+	public long rejectedCount() {
+		return rejected.sum();
+	}
+
+	/**
+	 * Returns the number of lookups accepted by the filter for words absent from
+	 * the tree.
+	 *
+	 * @return The number of false positives
+	 */
+	public long falsePositiveCount() {
+		return falsePositives.sum();
+	}
+
+	/**
+	 * Returns the proportion of the lookups of absent words that the filter
+	 * accepted, as observed so far.
+	 *
+	 * @return The measured false positive rate, 0 if no absent word was searched
+	 */
+	public double measuredFalsePositiveRate() {
+		long negatives = rejected.sum() + falsePositives.sum();
+		return negatives == 0 ? 0 : (double) falsePositives.sum() / negatives;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("BloomFilter[%d words, %d bits, %d hashes, %d bytes, fpp %.4f estimated / %.4f measured]",
+				wordCount, bitCount, hashCount, memoryUsage(), estimatedFalsePositiveRate(),
+				measuredFalsePositiveRate());
+	}
+
+	/*
+	 * PACKAGE METHODS
+	 */
+
+	/**
+	 * Starts the hash of a word.
+	 *
+	 * @return The hash of the empty word
+	 */
+	static long hashStart() {
+		return SEED;
+	}
+
+	/**
+	 * Adds the code of a letter to the hash of a word.
+	 *
+	 * @param hash The hash of the letters before
+	 * @param code The code of the letter
+	 * @return The hash including the letter
+	 */
+	static long hashStep(long hash, int code) {
+		return (hash ^ code) * PRIME;
+	}
+
+	/**
+	 * Hashes a word given by the codes of its letters.
+	 *
+	 * @param key    An array starting with the codes of the letters of the word
+	 * @param length The number of letters of the word
+	 * @return The hash of the word
+	 */
+	static long hash(byte[] key, int length) {
+		long hash = hashStart();
+		for (int i = 0; i < length; i++) {
+			hash = hashStep(hash, key[i]);
+		}
+		return hash;
+	}
+
+	/**
+	 * Adds a word to the filter.
+	 *
+	 * @param hash The hash of the word
+	 */
+	void add(long hash) {
+		long h = mix(hash);
+		int block = block(h);
+		// bits du bloc tires d'un second melange, independant du choix du bloc
+		h = mix(h ^ SEED);
+		for (int i = 0; i < hashCount; i++) {
+			int bit = (int) h & BLOCK_BITS - 1;
+			long mask = 1L << bit;
+			int index = block + (bit >>> 6);
+			if ((bits[index] & mask) == 0) {
+				bits[index] |= mask;
+				setBits++;
+			}
+			h = Long.rotateRight(h, 9);
+		}
+		wordCount++;
+	}
+
+	/**
+	 * Determines if a word may have been added, and counts the rejections.
+	 *
+	 * @param hash The hash of the word
+	 * @return False if the word was certainly not added, true otherwise
+	 */
+	boolean mightContain(long hash) {
+		long h = mix(hash);
+		int block = block(h);
+		// bits du bloc tires d'un second melange, independant du choix du bloc
+		h = mix(h ^ SEED);
+		for (int i = 0; i < hashCount; i++) {
+			int bit = (int) h & BLOCK_BITS - 1;
+			if ((bits[block + (bit >>> 6)] & 1L << bit) == 0) {
+				rejected.increment();
+				return false;
+			}
+			h = Long.rotateRight(h, 9);
+		}
+		return true;
+	}
+
+	/**
+	 * Counts a word accepted by the filter but absent from the tree.
+	 */
+	void recordFalsePositive() {
+		falsePositives.increment();
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Chooses the block of a word from the high bits of its hash, by a
+	 * multiplication rather than a modulo.
+	 *
+	 * @param h The mixed hash of the word
+	 * @return The index of the first long of the block
+	 */
+	private int block(long h) {
+		return (int) ((h >>> 32) * blockCount >>> 32) * BLOCK_LONGS;
+	}
+
+	/**
+	 * Spreads the bits of a hash (finalizer of MurmurHash3).
+	 *
+	 * @param hash A hash
+	 * @return The mixed hash
+	 */
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb93fe1a85ec3L;
+		return hash ^ hash >>> 33;
+	}
+}
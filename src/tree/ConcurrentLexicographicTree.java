@@ -0,0 +1,227 @@
+package tree;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lexicographic tree that can be shared between threads. Lookups never lock
+ * nor wait ; insertions link new nodes in the sorted sibling lists with a
+ * compare-and-set, retrying when another thread changed the list first. Since
+ * nodes are never removed, a link only ever changes to point to a new node
+ * inserted just before the previous target.
+ *
+ * <p>
+ * Queries returning several words are weakly consistent : they see every word
+ * inserted before they started and may or may not see words inserted during
+ * the traversal.
+ */
+public class ConcurrentLexicographicTree implements Lexicon {
+
+	private final Node root = new Node('\0');
+	private final AtomicInteger wordCount = new AtomicInteger();
+
+	/*
+	 * CONSTRUCTORS
+	 */
+
+	/**
+	 * Constructor : creates an empty lexicographic tree.
+	 */
+	public ConcurrentLexicographicTree() {
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	@Override
+	public int size() {
+		return wordCount.get();
+	}
+
+	/**
+	 * Inserts a word in the lexicographic tree if not already present. Characters
+	 * that are not lowercase letters, '-' or '\'' are skipped, as in
+	 * {@link LexicographicTree#insertWord(String)}. Can be called from any thread.
+	 *
+	 * @param word A word
+	 */
+	public void insertWord(String word) {
+		if (word == null) {
+			return;
+		}
+		Node node = root;
+		for (int i = 0; i < word.length(); i++) {
+			char c = word.charAt(i);
+			if (LexicographicTree.isValidLetter(c)) {
+				node = getOrCreateChild(node, c);
+			}
+		}
+		if (!node.isLeaf && Node.IS_LEAF.compareAndSet(node, false, true)) {
+			wordCount.incrementAndGet();
+		}
+	}
+
+	@Override
+	public boolean containsWord(String word) {
+		if (word == null || word.isEmpty()) {
+			return false;
+		}
+		Node node = getNodeForPrefix(word);
+		return node != null && node.isLeaf;
+	}
+
+	@Override
+	public List<String> getWords(String prefix) {
+		List<String> words = new ArrayList<>();
+		Node node = getNodeForPrefix(prefix);
+		if (node != null) {
+			collectWords(node, new StringBuilder(prefix), words, -1);
+		}
+		return words;
+	}
+
+	@Override
+	public List<String> getWordsOfLength(int length) {
+		List<String> words = new ArrayList<>();
+		if (length >= 0) {
+			collectWords(root, new StringBuilder(), words, length);
+		}
+		return words;
+	}
+
+	@Override
+	public int hasPrefixOrWord(String prefix) {
+		Node node = getNodeForPrefix(prefix);
+		if (node == null) {
+			return -1;
+		}
+		return node.isLeaf ? 1 : 0;
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Finds the node corresponding to the given prefix.
+	 *
+	 * @param prefix The prefix to search for.
+	 * @return The node corresponding to the prefix, or null if not found.
+	 */
+	private Node getNodeForPrefix(String prefix) {
+		Node node = root;
+		for (int i = 0; i < prefix.length() && node != null; i++) {
+			node = findChild(node, prefix.charAt(i));
+		}
+		return node;
+	}
+
+	/**
+	 * Finds the child of a node holding the given letter.
+	 *
+	 * @param node The parent node
+	 * @param c    The letter to find
+	 * @return The child holding the letter, or null if not found.
+	 */
+	private static Node findChild(Node node, char c) {
+		for (Node child = node.child; child != null; child = child.sibling) {
+			if (child.charValue == c) {
+				return child;
+			} else if (child.charValue > c) {
+				break;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the child of a node holding the given letter, inserting it in the
+	 * sorted list of children if missing. The new node is linked by a
+	 * compare-and-set on the link it goes in front of ; if that link changed in
+	 * the meantime, the search starts again.
+	 *
+	 * @param node The parent node
+	 * @param c    The letter to find
+	 * @return The child holding the letter
+	 */
+	private static Node getOrCreateChild(Node node, char c) {
+		Node newNode = null;
+		while (true) {
+			Node prev = null;
+			Node child = node.child;
+			while (child != null && child.charValue < c) {
+				prev = child;
+				child = child.sibling;
+			}
+			if (child != null && child.charValue == c) {
+				return child;
+			}
+
+			if (newNode == null) {
+				newNode = new Node(c);
+			}
+			newNode.sibling = child;
+			boolean linked = prev == null ? Node.CHILD.compareAndSet(node, child, newNode)
+					: Node.SIBLING.compareAndSet(prev, child, newNode);
+			if (linked) {
+				return newNode;
+			}
+		}
+	}
+
+	/**
+	 * Collects the words below a node, all of them or only those of a given
+	 * length.
+	 *
+	 * @param node   The current node being examined.
+	 * @param word   The letters leading to the node, restored before returning.
+	 * @param words  The list of words found.
+	 * @param length The expected word length, or -1 for every length.
+	 */
+	private static void collectWords(Node node, StringBuilder word, List<String> words, int length) {
+		if (node.isLeaf && (length < 0 || word.length() == length)) {
+			words.add(word.toString());
+		}
+		if (length >= 0 && word.length() >= length) {
+			return;
+		}
+		for (Node child = node.child; child != null; child = child.sibling) {
+			word.append(child.charValue);
+			collectWords(child, word, words, length);
+			word.setLength(word.length() - 1);
+		}
+	}
+
+	/**
+	 * Node whose links are published through volatile fields.
+	 */
+	private static final class Node {
+		static final VarHandle CHILD;
+		static final VarHandle SIBLING;
+		static final VarHandle IS_LEAF;
+
+		static {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				CHILD = lookup.findVarHandle(Node.class, "child", Node.class);
+				SIBLING = lookup.findVarHandle(Node.class, "sibling", Node.class);
+				IS_LEAF = lookup.findVarHandle(Node.class, "isLeaf", boolean.class);
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		final char charValue;
+		volatile boolean isLeaf;
+		volatile Node child;
+		volatile Node sibling;
+
+		Node(char charValue) {
+			this.charValue = charValue;
+		}
+	}
+}
@@ -0,0 +1,440 @@
+package tree;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Frozen, minimized directed acyclic word graph. Unlike the lexicographic tree,
+ * words sharing a suffix also share the states spelling that suffix. The graph
+ * is built incrementally from sorted words (Daciuk et al. algorithm), then
+ * stored in flat arrays : the edges of a state are contiguous and sorted by
+ * letter.
+ */
+public class Dawg implements Lexicon {
+
+	private static final int NONE = -1;
+	private static final int ROOT = 0;
+
+	private final int[] firstEdge;
+	private final char[] edgeLabel;
+	private final int[] edgeTarget;
+	private final boolean[] isFinal;
+	private final int wordCount;
+
+	/*
+	 * CONSTRUCTORS
+	 */
+
+	/**
+	 * Constructor : creates a word graph from a text file, one word per line.
+	 * Lines are sorted first if the file is not already in alphabetic order.
+	 *
+	 * @param filename A text file containing the words of the graph
+	 */
+	public Dawg(String filename) {
+		this(new Builder(readWords(filename)));
+	}
+
+	private Dawg(Builder builder) {
+		builder.finish();
+		Map<State, Integer> ids = new IdentityHashMap<>();
+		List<State> states = new ArrayList<>();
+		numberStates(builder.root, ids, states);
+
+		int edges = 0;
+		for (State state : states) {
+			edges += state.count;
+		}
+		firstEdge = new int[states.size() + 1];
+		edgeLabel = new char[edges];
+		edgeTarget = new int[edges];
+		isFinal = new boolean[states.size()];
+		int e = 0;
+		for (int s = 0; s < states.size(); s++) {
+			State state = states.get(s);
+			firstEdge[s] = e;
+			isFinal[s] = state.isFinal;
+			for (int i = 0; i < state.count; i++) {
+				edgeLabel[e] = state.labels[i];
+				edgeTarget[e] = ids.get(state.targets[i]);
+				e++;
+			}
+		}
+		firstEdge[states.size()] = e;
+		wordCount = builder.wordCount;
+	}
+
+	/**
+	 * Builds a word graph from words given in alphabetic order.
+	 *
+	 * @param sortedWords The words, sorted and without duplicates once the
+	 *                    characters skipped by the tree are removed
+	 * @return The minimized word graph
+	 * @throws IllegalArgumentException if the words are not sorted
+	 */
+	public static Dawg fromSortedWords(Iterable<String> sortedWords) {
+		Builder builder = new Builder();
+		for (String word : sortedWords) {
+			if (!builder.add(word)) {
+				throw new IllegalArgumentException("words are not sorted : " + word);
+			}
+		}
+		return new Dawg(builder);
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	@Override
+	public int size() {
+		return wordCount;
+	}
+
+	@Override
+	public boolean containsWord(String word) {
+		if (word == null || word.isEmpty()) {
+			return false;
+		}
+		int state = getStateForPrefix(word);
+		return state != NONE && isFinal[state];
+	}
+
+	@Override
+	public List<String> getWords(String prefix) {
+		List<String> words = new ArrayList<>();
+		int state = getStateForPrefix(prefix);
+		if (state != NONE) {
+			collectWords(state, new StringBuilder(prefix), words, -1);
+		}
+		return words;
+	}
+
+	@Override
+	public List<String> getWordsOfLength(int length) {
+		List<String> words = new ArrayList<>();
+		if (length >= 0) {
+			collectWords(ROOT, new StringBuilder(), words, length);
+		}
+		return words;
+	}
+
+	@Override
+	public int hasPrefixOrWord(String prefix) {
+		int state = getStateForPrefix(prefix);
+		if (state == NONE) {
+			return -1;
+		}
+		return isFinal[state] ? 1 : 0;
+	}
+
+	/**
+	 * Returns the number of states of the graph.
+	 *
+	 * @return The number of states
+	 */
+	public int stateCount() {
+		return isFinal.length;
+	}
+
+	/**
+	 * Returns the number of edges of the graph.
+	 *
+	 * @return The number of edges
+	 */
+	public int edgeCount() {
+		return edgeLabel.length;
+	}
+
+	/**
+	 * Returns the number of bytes held by the arrays of the graph.
+	 *
+	 * @return The memory used by the graph in bytes
+	 */
+	public long memoryUsage() {
+		return (long) firstEdge.length * Integer.BYTES + (long) edgeLabel.length * Character.BYTES
+				+ (long) edgeTarget.length * Integer.BYTES + isFinal.length;
+	}
+
+	/**
+	 * Saves the graph to a binary snapshot that can be reopened with
+	 * {@link MappedLexicographicTree}.
+	 *
+	 * @param filename The snapshot file, replaced if it exists
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(String filename) throws IOException {
+		MappedLexicographicTree.write(filename, null, wordCount, firstEdge, isFinal, edgeLabel, edgeTarget);
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Walks the graph along the given prefix.
+	 *
+	 * @param prefix The prefix to search for.
+	 * @return The state reached, or NONE if the prefix is not found.
+	 */
+	private int getStateForPrefix(String prefix) {
+		int state = ROOT;
+		for (int i = 0; i < prefix.length() && state != NONE; i++) {
+			state = findEdgeTarget(state, prefix.charAt(i));
+		}
+		return state;
+	}
+
+	/**
+	 * Finds the state reached from a state with the given letter, by binary search
+	 * in its sorted edges.
+	 *
+	 * @param state The source state
+	 * @param c     The letter of the edge
+	 * @return The target state, or NONE if there is no such edge.
+	 */
+	private int findEdgeTarget(int state, char c) {
+		int low = firstEdge[state];
+		int high = firstEdge[state + 1] - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			char value = edgeLabel[mid];
+			if (value < c) {
+				low = mid + 1;
+			} else if (value > c) {
+				high = mid - 1;
+			} else {
+				return edgeTarget[mid];
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Collects the words readable from a state, all of them or only those of a
+	 * given length.
+	 *
+	 * @param state  The current state.
+	 * @param word   The letters leading to the state, restored before returning.
+	 * @param words  The list of words found.
+	 * @param length The expected word length, or -1 for every length.
+	 */
+	private void collectWords(int state, StringBuilder word, List<String> words, int length) {
+		if (isFinal[state] && (length < 0 || word.length() == length)) {
+			words.add(word.toString());
+		}
+		if (length >= 0 && word.length() >= length) {
+			return;
+		}
+		for (int e = firstEdge[state]; e < firstEdge[state + 1]; e++) {
+			word.append(edgeLabel[e]);
+			collectWords(edgeTarget[e], word, words, length);
+			word.setLength(word.length() - 1);
+		}
+	}
+
+	/**
+	 * Numbers the states in depth-first order, the root getting 0.
+	 *
+	 * @param state  The current state
+	 * @param ids    The numbers already given
+	 * @param states The states in numbering order
+	 */
+	private static void numberStates(State state, Map<State, Integer> ids, List<State> states) {
+		if (ids.containsKey(state)) {
+			return;
+		}
+		ids.put(state, states.size());
+		states.add(state);
+		for (int i = 0; i < state.count; i++) {
+			numberStates(state.targets[i], ids, states);
+		}
+	}
+
+	/**
+	 * Reads the words of a file in the order expected by the builder.
+	 *
+	 * @param filename A text file containing one word per line
+	 * @return The words of the file, sorted
+	 */
+	private static List<String> readWords(String filename) {
+		List<String> lines;
+		try {
+			lines = Files.readAllLines(Paths.get(filename));
+		} catch (IOException e) {
+			// same behaviour as LexicographicTree : an unreadable file gives an empty
+			// dictionary
+			return Collections.emptyList();
+		}
+		List<String> words = new ArrayList<>(lines.size());
+		for (String line : lines) {
+			words.add(Builder.normalize(line));
+		}
+		Collections.sort(words);
+		return words;
+	}
+
+	/**
+	 * Mutable state used while building the graph.
+	 */
+	private static final class State {
+		boolean isFinal;
+		char[] labels = new char[0];
+		State[] targets = new State[0];
+		int count;
+
+		void addEdge(char c, State target) {
+			if (count == labels.length) {
+				labels = Arrays.copyOf(labels, Math.max(2, count * 2));
+				targets = Arrays.copyOf(targets, labels.length);
+			}
+			labels[count] = c;
+			targets[count] = target;
+			count++;
+		}
+
+		State lastTarget() {
+			return count == 0 ? null : targets[count - 1];
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof State)) {
+				return false;
+			}
+			State other = (State) obj;
+			if (isFinal != other.isFinal || count != other.count) {
+				return false;
+			}
+			for (int i = 0; i < count; i++) {
+				if (labels[i] != other.labels[i] || targets[i] != other.targets[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = isFinal ? 1 : 0;
+			for (int i = 0; i < count; i++) {
+				hash = 31 * hash + labels[i];
+				hash = 31 * hash + System.identityHashCode(targets[i]);
+			}
+			return hash;
+		}
+	}
+
+	/**
+	 * Incremental construction of a minimal graph from sorted words : only the
+	 * states on the path of the last word are still mutable, the others are
+	 * registered and shared.
+	 */
+	private static final class Builder {
+		final State root = new State();
+		final Map<State, State> register = new HashMap<>();
+		String previous;
+		int wordCount;
+
+		Builder() {
+		}
+
+		Builder(List<String> sortedWords) {
+			for (String word : sortedWords) {
+				add(word);
+			}
+		}
+
+		/**
+		 * Adds a word after the previous one.
+		 *
+		 * @param word A word
+		 * @return False if the word comes before the previous one, true otherwise
+		 */
+		boolean add(String word) {
+			if (word == null) {
+				return true;
+			}
+			word = normalize(word);
+			if (previous != null) {
+				int order = word.compareTo(previous);
+				if (order == 0) {
+					return true;
+				} else if (order < 0) {
+					return false;
+				}
+			}
+
+			int common = 0;
+			State state = root;
+			if (previous != null) {
+				while (common < word.length() && common < previous.length()
+						&& word.charAt(common) == previous.charAt(common)) {
+					state = state.lastTarget();
+					common++;
+				}
+				replaceOrRegister(root, 0, common);
+			}
+			for (int i = common; i < word.length(); i++) {
+				State next = new State();
+				state.addEdge(word.charAt(i), next);
+				state = next;
+			}
+			state.isFinal = true;
+			previous = word;
+			wordCount++;
+			return true;
+		}
+
+		/**
+		 * Registers the last states of the previous word, from the deepest one up to
+		 * the given depth.
+		 *
+		 * @param state The state at the given depth
+		 * @param depth The depth of the state
+		 * @param keep  The depth from which states are registered
+		 */
+		void replaceOrRegister(State state, int depth, int keep) {
+			State child = state.lastTarget();
+			if (child == null) {
+				return;
+			}
+			replaceOrRegister(child, depth + 1, keep);
+			if (depth >= keep) {
+				State existing = register.putIfAbsent(child, child);
+				if (existing != null) {
+					state.targets[state.count - 1] = existing;
+				}
+			}
+		}
+
+		void finish() {
+			replaceOrRegister(root, 0, 0);
+		}
+
+		/**
+		 * Removes the characters skipped by the lexicographic tree.
+		 *
+		 * @param word A word
+		 * @return The word as stored in the graph
+		 */
+		static String normalize(String word) {
+			StringBuilder sb = new StringBuilder(word.length());
+			for (int i = 0; i < word.length(); i++) {
+				char c = word.charAt(i);
+				if (LexicographicTree.isValidLetter(c)) {
+					sb.append(c);
+				}
+			}
+			return sb.length() == word.length() ? word : sb.toString();
+		}
+	}
+}
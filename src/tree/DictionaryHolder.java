@@ -0,0 +1,128 @@
+package tree;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current dictionary of a long-running service and replaces it
+ * without stopping the readers. A reload builds a whole new tree on a
+ * background thread, then publishes it with a single atomic write : readers
+ * never wait and never see a tree being built.
+ *
+ * <p>
+ * A reader calls {@link #get()} once per task, a Boggle grid or a cryptogram
+ * for instance, and keeps the tree for the whole task : a reload finishing
+ * meanwhile does not change the words the task sees, and the old tree is
+ * collected once the last task using it ends. The trees must not be modified
+ * once held.
+ */
+public class DictionaryHolder implements AutoCloseable {
+
+	private final AtomicReference<LexicographicTree> current;
+	/** Single thread : reloads are built one at a time, in request order. */
+	private final ExecutorService reloader = Executors.newSingleThreadExecutor(task -> {
+		Thread thread = new Thread(task, "dictionary-reload");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/*
+	 * CONSTRUCTORS
+	 */
+
+	/**
+	 * Constructor : holds a dictionary.
+	 *
+	 * @param dictionary The initial dictionary
+	 */
+	public DictionaryHolder(LexicographicTree dictionary) {
+		current = new AtomicReference<>(Objects.requireNonNull(dictionary));
+	}
+
+	/**
+	 * Constructor : holds the dictionary of a file.
+	 *
+	 * @param filename A text file containing the words, possibly gzip compressed
+	 * @throws IOException if the file cannot be read
+	 */
+	public DictionaryHolder(String filename) throws IOException {
+		this(LexicographicTree.load(filename));
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Returns the current dictionary. It stays valid after a reload.
+	 *
+	 * @return The current dictionary
+	 */
+	public LexicographicTree get() {
+		return current.get();
+	}
+
+	/**
+	 * Starts loading a new dictionary from a file in the background, and swaps it
+	 * in once built. The new tree uses the alphabet of the current one, and gets
+	 * the same Bloom filter and suffix index if the current one has them. If the
+	 * load fails, the current dictionary is kept. The new tree only replaces the
+	 * tree it was built after : if {@link #swap(LexicographicTree)} replaced it
+	 * during the load, the swapped dictionary is kept and the reload fails.
+	 *
+	 * @param filename A text file containing the words, possibly gzip compressed
+	 * @return A future completed with the new dictionary once it is in place, or
+	 *         with the load error, or with a
+	 *         {@link ConcurrentModificationException} if the dictionary was
+	 *         swapped during the load
+	 * @throws java.util.concurrent.RejectedExecutionException if the holder is
+	 *                                                         closed
+	 */
+	public CompletableFuture<LexicographicTree> reload(String filename) {
+		return CompletableFuture.supplyAsync(() -> {
+			LexicographicTree previous = current.get();
+			LexicographicTree next;
+			try {
+				next = LexicographicTree.load(filename, previous.alphabet());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			BloomFilter filter = previous.bloomFilter();
+			if (filter != null) {
+				next.enableBloomFilter(filter.targetFalsePositiveRate());
+			}
+			if (previous.hasSuffixIndex()) {
+				next.enableSuffixIndex();
+			}
+			if (!current.compareAndSet(previous, next)) {
+				throw new ConcurrentModificationException("dictionary swapped during the reload");
+			}
+			return next;
+		}, reloader);
+	}
+
+	/**
+	 * Replaces the current dictionary at once.
+	 *
+	 * @param dictionary The new dictionary, fully built
+	 * @return The dictionary replaced
+	 */
+	public LexicographicTree swap(LexicographicTree dictionary) {
+		return current.getAndSet(Objects.requireNonNull(dictionary));
+	}
+
+	/**
+	 * Stops the background thread once the pending reloads are done. The current
+	 * dictionary stays available.
+	 */
+	@Override
+	public void close() {
+		reloader.shutdown();
+	}
+}
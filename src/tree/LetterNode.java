@@ -2,20 +2,179 @@ package tree;
 
 /**
  * internal class for the traitement in LexicographicalTree
- * 
- * 
+ *
+ * A node stores the code of its letter in the {@link Alphabet} of the tree.
+ * Children are packed in an array sorted by code. A bitmap tells which codes
+ * have a child : the child of a code is at the index given by the number of
+ * bits set before the code's bit, so finding it costs one popcount. The array
+ * always has the exact number of children, and a node with a single child,
+ * the most common case inside words, holds it without any array.
+ *
+ * The letter is a byte code and the summaries are ints, so that with
+ * compressed references a node takes 32 bytes, header included.
+ *
  * @author valen
  *
  */
-class LetterNode {
+final class LetterNode {
 	boolean isLeaf;
-	LetterNode child;
-	LetterNode sibling;
-	char charValue;
+	/** Code of the letter of the node, see {@link Alphabet#code(char)}. */
+	byte code;
+	/**
+	 * Bit i is set when a word ends i letters below this node (bit 0 : the node
+	 * itself). Lengths of 31 or more share the last bit.
+	 */
+	int lengthMask;
+	/** Number of words ending at or below this node. */
+	int wordCount;
+	/** Bit i is set when the node has a child for the letter of code i. */
+	int childMask;
+	/**
+	 * Children sorted by letter : null without child, the child itself when there
+	 * is only one, otherwise an array with one slot per bit of {@link #childMask}.
+	 */
+	private Object children;
 
-    LetterNode(char charValue) {
-        this.charValue = charValue;
+    LetterNode(int code) {
+        this.code = (byte) code;
     }
 
-    
-}
\ No newline at end of file
+	/**
+	 * Returns the number of children of the node.
+	 *
+	 * @return The number of children
+	 */
+	int childCount() {
+		return Integer.bitCount(childMask);
+	}
+
+	/**
+	 * Returns a child by its rank among the children.
+	 *
+	 * @param index The rank of the child, lower than {@link #childCount()}
+	 * @return The child of the index-th lowest letter
+	 */
+	LetterNode child(int index) {
+		return children instanceof LetterNode ? (LetterNode) children : ((LetterNode[]) children)[index];
+	}
+
+	/**
+	 * Finds the child holding the letter of a code.
+	 *
+	 * @param code The code of a letter
+	 * @return The child holding the letter, or null if not found.
+	 */
+	LetterNode getChild(int code) {
+		if ((childMask & (1 << code)) == 0) {
+			return null;
+		}
+		return child(rank(code));
+	}
+
+	/**
+	 * Finds the child holding the letter of a code, inserting it at its rank if
+	 * missing.
+	 *
+	 * @param code The code of a letter
+	 * @return The child holding the letter
+	 */
+	LetterNode getOrCreateChild(int code) {
+		int index = rank(code);
+		if ((childMask & (1 << code)) != 0) {
+			return child(index);
+		}
+		LetterNode newNode = new LetterNode(code);
+		insertChild(index, newNode);
+		return newNode;
+	}
+
+	/**
+	 * Adds a child holding a letter greater than the letters of all the other
+	 * children.
+	 *
+	 * @param child The new last child
+	 */
+	void appendChild(LetterNode child) {
+		insertChild(childCount(), child);
+	}
+
+	/**
+	 * Removes the child holding a letter known to be present.
+	 *
+	 * @param code The code of a letter whose bit is set in {@link #childMask}
+	 */
+	void removeChild(int code) {
+		int index = rank(code);
+		int count = childCount();
+		if (count == 1) {
+			children = null;
+		} else if (count == 2) {
+			children = child(1 - index);
+		} else {
+			LetterNode[] array = (LetterNode[]) children;
+			LetterNode[] shrunk = new LetterNode[count - 1];
+			System.arraycopy(array, 0, shrunk, 0, index);
+			System.arraycopy(array, index + 1, shrunk, index, count - index - 1);
+			children = shrunk;
+		}
+		childMask &= ~(1 << code);
+	}
+
+	/**
+	 * Copies the subtree of this node. The copies are allocated in depth-first
+	 * order, so the nodes of a subtree end up close in memory.
+	 *
+	 * @return The copy of this node
+	 */
+	LetterNode compactCopy() {
+		LetterNode copy = new LetterNode(code);
+		copy.isLeaf = isLeaf;
+		copy.lengthMask = lengthMask;
+		copy.wordCount = wordCount;
+		int count = childCount();
+		if (count == 1) {
+			copy.children = child(0).compactCopy();
+		} else if (count > 1) {
+			LetterNode[] array = new LetterNode[count];
+			for (int i = 0; i < count; i++) {
+				array[i] = child(i).compactCopy();
+			}
+			copy.children = array;
+		}
+		copy.childMask = childMask;
+		return copy;
+	}
+
+	/**
+	 * Inserts a child at its rank, the children array getting exactly one more
+	 * slot.
+	 *
+	 * @param index The rank of the letter of the child
+	 * @param child The new child
+	 */
+	private void insertChild(int index, LetterNode child) {
+		int count = childCount();
+		if (count == 0) {
+			children = child;
+		} else {
+			LetterNode[] grown = new LetterNode[count + 1];
+			for (int i = 0; i < count; i++) {
+				grown[i < index ? i : i + 1] = child(i);
+			}
+			grown[index] = child;
+			children = grown;
+		}
+		childMask |= 1 << child.code;
+	}
+
+	/**
+	 * Returns the index in the children array of the child of a letter, present or
+	 * not.
+	 *
+	 * @param code The code of a letter
+	 * @return The number of children holding a lower letter
+	 */
+	private int rank(int code) {
+		return Integer.bitCount(childMask & ((1 << code) - 1));
+	}
+}
@@ -3,327 +3,2562 @@ package tree;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Scanner;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Represents a lexicographic tree data structure for storing and searching
  * words.
  */
-public class LexicographicTree {
+public class LexicographicTree implements Lexicon {
 
+	/** Size of the byte and char buffers of the streaming loader. */
+	private static final int BUFFER_SIZE = 1 << 16;
+	/** Number of sorted words looked up by each task of a parallel batch. */
+	private static final int BATCH_RANGE = 1 << 14;
+
+	private final Alphabet alphabet;
 	private LetterNode root;
+	/** Filter rejecting most absent words before the tree is walked, or null. */
+	private BloomFilter bloomFilter;
+	/** Tree of the reversed words, answering suffix queries, or null. */
+	private LexicographicTree suffixIndex;
+	/**
+	 * Weights of the nodes leading to a weighted word, null until a word gets a
+	 * weight : an unweighted dictionary stores no weight at all.
+	 */
+	private Map<LetterNode, NodeWeight> weights;
+	/** Codes of the word being inserted, reused so that inserts allocate nothing. */
+	private byte[] keyBuffer = new byte[32];
 
 	/*
 	 * CONSTRUCTORS
 	 */
 
 	/**
-	 * Constructor : creates an empty lexicographic tree.
+	 * Constructor : creates an empty lexicographic tree storing the letters of
+	 * {@link Alphabet#FRENCH}.
 	 */
 	public LexicographicTree() {
-		root = new LetterNode('\0');
+		this(Alphabet.FRENCH);
+	}
+
+	/**
+	 * Constructor : creates an empty lexicographic tree.
+	 * 
+	 * @param alphabet The letters the tree can store
+	 */
+	public LexicographicTree(Alphabet alphabet) {
+		this.alphabet = Objects.requireNonNull(alphabet);
+		root = new LetterNode(0);
+	}
+
+	/**
+	 * Constructor : creates a lexicographic tree populated with words
+	 * 
+	 * @param filename A text file containing the words to be inserted in the tree
+	 * @throws IOException
+	 */
+	public LexicographicTree(String filename) {
+		this(filename, Alphabet.FRENCH);
+	}
+
+	/**
+	 * Constructor : creates a lexicographic tree populated with words. The file is
+	 * read like {@link Builder#addAll(Path)}, gzip included ; use
+	 * {@link #load(String, Alphabet)} to know about read errors.
+	 * 
+	 * @param filename A text file containing the words to be inserted in the tree
+	 * @param alphabet The letters the tree can store
+	 */
+	public LexicographicTree(String filename, Alphabet alphabet) {
+		this(alphabet);
+		try {
+			new Builder(this).addAll(Paths.get(filename));
+		} catch (IOException e) {
+			//if a error is catch just ignore that just create a dictionary empty
+			root = new LetterNode(0);
+		}
+	}
+
+	/**
+	 * Creates a lexicographic tree populated with the words of a file, one word
+	 * per line, read like {@link Builder#addAll(Path)}.
+	 * 
+	 * @param filename A text file, possibly gzip compressed
+	 * @return The populated tree
+	 * @throws IOException if the file cannot be read or is not valid UTF-8
+	 */
+	public static LexicographicTree load(String filename) throws IOException {
+		return load(filename, Alphabet.FRENCH);
+	}
+
+	/**
+	 * Creates a lexicographic tree populated with the words of a file, one word
+	 * per line, read like {@link Builder#addAll(Path)}.
+	 * 
+	 * @param filename A text file, possibly gzip compressed
+	 * @param alphabet The letters the tree can store
+	 * @return The populated tree
+	 * @throws IOException if the file cannot be read or is not valid UTF-8
+	 */
+	public static LexicographicTree load(String filename, Alphabet alphabet) throws IOException {
+		Builder builder = new Builder(alphabet);
+		builder.addAll(Paths.get(filename));
+		return builder.build();
+	}
+
+	/**
+	 * Creates a lexicographic tree populated with the words of a file, building
+	 * the subtree of each leading letter in its own fork-join task. The file is
+	 * read like {@link Builder#addAll(Path)}, so the result is the same as with
+	 * {@link #load(String)}.
+	 * 
+	 * @param filename A text file containing the words to be inserted in the
+	 *                 tree, possibly gzip compressed
+	 * @return The populated tree
+	 * @throws IOException if the file cannot be read or is not valid UTF-8
+	 */
+	public static LexicographicTree loadParallel(String filename) throws IOException {
+		return loadParallel(filename, Alphabet.FRENCH);
+	}
+
+	/**
+	 * Creates a lexicographic tree populated with the words of a file, like
+	 * {@link #loadParallel(String)}.
+	 * 
+	 * @param filename A text file containing the words to be inserted in the
+	 *                 tree, possibly gzip compressed
+	 * @param alphabet The letters the tree can store
+	 * @return The populated tree
+	 * @throws IOException if the file cannot be read or is not valid UTF-8
+	 */
+	public static LexicographicTree loadParallel(String filename, Alphabet alphabet) throws IOException {
+		// repartition des lignes selon leur premiere lettre valide
+		Partitioner partitioner = new Partitioner(alphabet);
+		try (FileChannel file = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			Builder.readLines(Builder.decompressed(file), StandardCharsets.UTF_8, partitioner);
+		}
+		LexicographicTree tree = new LexicographicTree(alphabet);
+		if (partitioner.emptyWord) {
+			tree.root.isLeaf = true;
+			tree.root.wordCount++;
+			addWordBelow(tree.root, 0);
+		}
+
+		List<ForkJoinTask<LetterNode>> tasks = new ArrayList<>();
+		for (int code = 0; code < alphabet.size(); code++) {
+			if (partitioner.lengths[code] > 0) {
+				int letter = code;
+				tasks.add(ForkJoinTask.adapt(() -> partitioner.build(letter)));
+			}
+		}
+		ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+		// les sous-arbres sont ajoutes sous la racine dans l'ordre des lettres
+		for (ForkJoinTask<LetterNode> task : tasks) {
+			LetterNode subtree = task.join();
+			tree.root.appendChild(subtree);
+			tree.root.lengthMask |= parentLengthMask(subtree.lengthMask);
+			tree.root.wordCount += subtree.wordCount;
+		}
+		return tree;
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Returns the number of words present in the lexicographic tree.
+	 * 
+	 * @return The number of words present in the lexicographic tree
+	 */
+	public int size() {
+		return root.wordCount;
+	}
+
+	/**
+	 * Returns the alphabet of the tree : the letters it stores and how the
+	 * characters of the words are mapped to them.
+	 * 
+	 * @return The alphabet of the tree
+	 */
+	public Alphabet alphabet() {
+		return alphabet;
+	}
+
+	/**
+	 * Inserts a word in the lexicographic tree if not already present. Characters
+	 * that the alphabet of the tree cannot map are skipped ; with the default
+	 * alphabet, characters other than lowercase letters, '-' and '\''.
+	 * 
+	 * @param word A word
+	 */
+	public void insertWord(String word) {
+		if (word != null) {
+			byte[] key = keyBuffer(word.length());
+			insertKey(key, encode(word, key));
+		}
+	}
+
+	/**
+	 * Inserts the characters of an array range as a word, like
+	 * {@link #insertWord(String)} but without building a String.
+	 * 
+	 * @param word   An array containing the word
+	 * @param offset The index of the first character of the word
+	 * @param length The number of characters of the word
+	 */
+	public void insertWord(char[] word, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, word.length);
+		byte[] key = keyBuffer(length);
+		int keyLength = 0;
+		for (int i = offset; i < offset + length; i++) {
+			int code = alphabet.code(word[i]);
+			if (code >= 0) {
+				key[keyLength++] = (byte) code;
+			}
+		}
+		insertKey(key, keyLength);
+	}
+
+	/**
+	 * Inserts a word in the lexicographic tree if not already present, and sets
+	 * its weight.
+	 * 
+	 * @param word   A word
+	 * @param weight The weight of the word, used to rank it by
+	 *               {@link #topK(String, int)}
+	 * @throws IllegalArgumentException if the weight is negative
+	 */
+	public void insertWord(String word, int weight) {
+		checkWeight(weight);
+		if (word != null) {
+			byte[] key = keyBuffer(word.length());
+			int length = encode(word, key);
+			insertKey(key, length);
+			setWeight(getPath(key, length), length, weight);
+		}
+	}
+
+	/**
+	 * Changes the weight of a word present in the tree.
+	 * 
+	 * @param word   A word
+	 * @param weight The new weight of the word
+	 * @return True if the word is present, false otherwise
+	 * @throws IllegalArgumentException if the weight is negative
+	 */
+	public boolean setWeight(String word, int weight) {
+		checkWeight(weight);
+		if (word == null) {
+			return false;
+		}
+		LetterNode[] path = getPath(word);
+		if (path == null || !path[word.length()].isLeaf) {
+			return false;
+		}
+		setWeight(path, word.length(), weight);
+		return true;
+	}
+
+	/**
+	 * Returns the weight of a word.
+	 * 
+	 * @param word A word
+	 * @return The weight of the word, or -1 if the word is not present
+	 */
+	public int getWeight(String word) {
+		if (word == null) {
+			return -1;
+		}
+		LetterNode node = getNodeForPrefix(word);
+		return node != null && node.isLeaf ? weight(node) : -1;
+	}
+
+	/**
+	 * Removes a word from the lexicographic tree. The nodes no longer leading to
+	 * any word are unlinked, and the summaries of the nodes on the path of the word
+	 * are updated, so only that path is visited.
+	 * 
+	 * @param word A word
+	 * @return True if the word was present, false otherwise
+	 */
+	public boolean removeWord(String word) {
+		if (word == null) {
+			return false;
+		}
+		LetterNode[] path = getPath(word);
+		int depth = word.length();
+		if (path == null || !path[depth].isLeaf) {
+			return false;
+		}
+		path[depth].isLeaf = false;
+		if (weights != null) {
+			weights.remove(path[depth]);
+		}
+		if (suffixIndex != null) {
+			suffixIndex.removeWord(new StringBuilder(word).reverse().toString());
+		}
+		for (int d = depth; d >= 0; d--) {
+			LetterNode node = path[d];
+			node.wordCount--;
+			if (node.wordCount == 0 && d > 0) {
+				// plus aucun mot dans ce sous-arbre
+				path[d - 1].removeChild(node.code);
+				if (weights != null) {
+					weights.remove(node);
+				}
+			} else {
+				updateSummaries(node);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Rebuilds the nodes of the tree in depth-first order, so that the nodes of a
+	 * subtree are close in memory after many insertions and removals. The words
+	 * and weights are unchanged. Cursors, iterators and streams created before
+	 * must not be used afterwards.
+	 */
+	public void compact() {
+		LetterNode copy = root.compactCopy();
+		if (weights != null) {
+			Map<LetterNode, NodeWeight> copyWeights = new IdentityHashMap<>();
+			copyWeights(root, copy, copyWeights);
+			weights = copyWeights;
+		}
+		root = copy;
+		if (suffixIndex != null) {
+			suffixIndex.compact();
+		}
+	}
+
+	/**
+	 * Builds a Bloom filter holding the words of the tree, checked by
+	 * containsWord before walking the tree : most absent words are then rejected
+	 * with a few hash probes. The words inserted afterwards are added to the
+	 * filter ; the removed words stay in it. Calling this method again rebuilds
+	 * the filter, sized for the current number of words.
+	 * 
+	 * @param falsePositiveRate The wanted probability that the filter accepts an
+	 *                          absent word, 0.01 for instance
+	 * @return The filter, giving its statistics
+	 * @throws IllegalArgumentException if the rate is not between 0 and 1
+	 */
+	public BloomFilter enableBloomFilter(double falsePositiveRate) {
+		BloomFilter filter = new BloomFilter(size(), falsePositiveRate);
+		addToFilter(root, BloomFilter.hashStart(), filter);
+		bloomFilter = filter;
+		return filter;
+	}
+
+	/**
+	 * Drops the Bloom filter : containsWord walks the tree for every word again.
+	 */
+	public void disableBloomFilter() {
+		bloomFilter = null;
+	}
+
+	/**
+	 * Returns the Bloom filter of the tree.
+	 * 
+	 * @return The filter, or null if none was enabled
+	 */
+	public BloomFilter bloomFilter() {
+		return bloomFilter;
+	}
+
+	/**
+	 * Builds a second tree holding every word reversed, so that
+	 * {@link #getWordsEndingWith(String)} only visits the words ending with the
+	 * suffix. The index is kept up to date by the insertions and removals ; it
+	 * takes about as much memory as the tree itself.
+	 */
+	public void enableSuffixIndex() {
+		LexicographicTree index = new LexicographicTree(alphabet);
+		addToSuffixIndex(root, new byte[Long.SIZE], 0, index);
+		suffixIndex = index;
+	}
+
+	/**
+	 * Drops the suffix index : suffix queries walk the whole tree again.
+	 */
+	public void disableSuffixIndex() {
+		suffixIndex = null;
+	}
+
+	/**
+	 * Determines if the tree keeps a suffix index.
+	 * 
+	 * @return True if {@link #enableSuffixIndex()} was called, false otherwise
+	 */
+	public boolean hasSuffixIndex() {
+		return suffixIndex != null;
+	}
+
+	/**
+	 * Determines if a word is present in the lexicographic tree.
+	 * 
+	 * @param word A word
+	 * @return True if the word is present, false otherwise
+	 */
+	public boolean containsWord(String word) {
+		return containsWord((CharSequence) word);
+	}
+
+	/**
+	 * Determines if a word is present in the lexicographic tree. Any character
+	 * sequence can be searched, a StringBuilder for instance.
+	 * 
+	 * @param word A word
+	 * @return True if the word is present, false otherwise
+	 */
+	public boolean containsWord(CharSequence word) {
+		if (word == null || word.length() == 0) {
+			return false;
+		}
+		BloomFilter filter = bloomFilter;
+		if (filter != null && filterRejects(filter, word)) {
+			return false;
+		}
+		LetterNode node = getNodeForPrefix(word);
+		return found(filter, node);
+	}
+
+	/**
+	 * Determines if the characters of an array range form a word of the
+	 * lexicographic tree.
+	 * 
+	 * @param word   An array containing the word
+	 * @param offset The index of the first character of the word
+	 * @param length The number of characters of the word
+	 * @return True if the word is present, false otherwise
+	 */
+	public boolean containsWord(char[] word, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, word.length);
+		if (length == 0) {
+			return false;
+		}
+		BloomFilter filter = bloomFilter;
+		if (filter != null && filterRejects(filter, word, offset, length)) {
+			return false;
+		}
+		LetterNode node = getNodeForPrefix(word, offset, length);
+		return found(filter, node);
+	}
+
+	/**
+	 * Determines which words of a batch are present in the lexicographic tree.
+	 * The words are looked up in alphabetic order, sorting them first if needed :
+	 * each lookup starts from the node of the prefix it shares with the previous
+	 * word instead of the root, and consecutive lookups visit nearby nodes.
+	 * 
+	 * @param words The words to look up, null elements being absent
+	 * @return The indices of the words present
+	 */
+	public BitSet containsAll(String[] words) {
+		return containsAll(words, false);
+	}
+
+	/**
+	 * Determines which words of a batch are present in the lexicographic tree,
+	 * like {@link #containsAll(String[])}. In parallel mode, the sorted words are
+	 * split in ranges looked up by fork-join tasks.
+	 * 
+	 * @param words    The words to look up, null elements being absent
+	 * @param parallel True to use the common fork-join pool for large batches
+	 * @return The indices of the words present
+	 */
+	public BitSet containsAll(String[] words, boolean parallel) {
+		int[] order = sortedOrder(words, parallel);
+		BitSet found = new BitSet(words.length);
+		if (!parallel || order.length < BATCH_RANGE * 2) {
+			containsSorted(words, order, 0, order.length, found);
+			return found;
+		}
+
+		List<ForkJoinTask<BitSet>> tasks = new ArrayList<>();
+		for (int from = 0; from < order.length; from += BATCH_RANGE) {
+			int start = from;
+			int end = Math.min(order.length, from + BATCH_RANGE);
+			tasks.add(ForkJoinTask.adapt(() -> {
+				BitSet range = new BitSet(words.length);
+				containsSorted(words, order, start, end, range);
+				return range;
+			}));
+		}
+		ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+		for (ForkJoinTask<BitSet> task : tasks) {
+			found.or(task.join());
+		}
+		return found;
+	}
+
+	/**
+	 * Returns an alphabetic list of all words starting with the supplied prefix. If
+	 * 'prefix' is an empty string, all words are returned.
+	 * 
+	 * @param prefix Expected prefix
+	 * @return The list of words starting with the supplied prefix
+	 */
+	public List<String> getWords(String prefix) {
+		List<String> words = new ArrayList<>();
+		LetterNode node = getNodeForPrefix(prefix);
+		if (node != null) {
+			collectWords(node, new StringBuilder(alphabet.normalize(prefix)), words);
+		}
+		return words;
+	}
+
+	/**
+	 * Returns the number of words starting with the supplied prefix, in constant
+	 * time with respect to the size of the tree.
+	 * 
+	 * @param prefix Expected prefix
+	 * @return The number of words starting with the supplied prefix
+	 */
+	public int countWithPrefix(String prefix) {
+		LetterNode node = getNodeForPrefix(prefix);
+		return node == null ? 0 : node.wordCount;
+	}
+
+	/**
+	 * Returns the alphabetic position of a word : the number of words of the tree
+	 * lower than it. For a word not in the tree, this is the position it would
+	 * have once inserted. Only the path of the word is visited.
+	 * 
+	 * @param word A word
+	 * @return The number of words lower than 'word'
+	 */
+	public int rank(String word) {
+		int rank = 0;
+		LetterNode node = root;
+		for (int i = 0; i < word.length(); i++) {
+			char c = word.charAt(i);
+			int code = alphabet.code(c);
+			// le prefixe lui-meme et les sous-arbres des lettres plus petites
+			rank += node.isLeaf ? 1 : 0;
+			LetterNode next = null;
+			for (int j = 0; j < node.childCount(); j++) {
+				LetterNode child = node.child(j);
+				if (code >= 0 ? child.code >= code : alphabet.letter(child.code) > c) {
+					next = child.code == code ? child : null;
+					break;
+				}
+				rank += child.wordCount;
+			}
+			if (next == null) {
+				return rank;
+			}
+			node = next;
+		}
+		return rank;
+	}
+
+	/**
+	 * Returns the word at a given alphabetic position, the opposite of
+	 * {@link #rank(String)}. Only the path of the word is visited.
+	 * 
+	 * @param index The position of the word, from 0 to size() - 1
+	 * @return The word at that position
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public String select(int index) {
+		Objects.checkIndex(index, size());
+		StringBuilder word = new StringBuilder();
+		LetterNode node = root;
+		while (true) {
+			if (node.isLeaf) {
+				if (index == 0) {
+					return word.toString();
+				}
+				index--;
+			}
+			for (int i = 0; i < node.childCount(); i++) {
+				LetterNode child = node.child(i);
+				if (index < child.wordCount) {
+					word.append(alphabet.letter(child.code));
+					node = child;
+					break;
+				}
+				index -= child.wordCount;
+			}
+		}
+	}
+
+	/**
+	 * Returns an iterator over the words starting with the supplied prefix, in
+	 * alphabetic order. Words are produced one at a time, so stopping early does
+	 * not visit the rest of the tree. The tree must not be modified while
+	 * iterating.
+	 * 
+	 * @param prefix Expected prefix
+	 * @return An iterator over the words starting with the supplied prefix
+	 */
+	public Iterator<String> wordIterator(String prefix) {
+		return Spliterators.iterator(wordSpliterator(prefix));
+	}
+
+	/**
+	 * Returns a stream of the words starting with the supplied prefix, in
+	 * alphabetic order. The stream is lazy and may be made parallel : it splits
+	 * by subtree. The tree must not be modified while the stream is consumed.
+	 * 
+	 * @param prefix Expected prefix
+	 * @return A stream of the words starting with the supplied prefix
+	 */
+	public Stream<String> words(String prefix) {
+		return StreamSupport.stream(wordSpliterator(prefix), false);
+	}
+
+	/**
+	 * Returns a spliterator over the words starting with the supplied prefix, in
+	 * alphabetic order. Splitting hands out whole subtrees.
+	 * 
+	 * @param prefix Expected prefix
+	 * @return A spliterator over the words starting with the supplied prefix
+	 */
+	public Spliterator<String> wordSpliterator(String prefix) {
+		LetterNode node = getNodeForPrefix(prefix);
+		if (node == null) {
+			return Spliterators.emptySpliterator();
+		}
+		return new WordSpliterator(node, alphabet.normalize(prefix), alphabet);
+	}
+
+	/**
+	 * Returns an alphabetic list of all words of a given length. If 'length' is
+	 * lower than or equal to zero, an empty list is returned. Only the subtrees
+	 * holding a word of the right length are visited.
+	 * 
+	 * @param length Expected word length
+	 * @return The list of words with the given length
+	 */
+	public List<String> getWordsOfLength(int length) {
+		List<String> words = new ArrayList<>();
+		if (length >= 0 && hasWordOfLength(root, length)) {
+			getWordsOfLengthRecursive(root, new StringBuilder(length), length, words);
+		}
+		return words;
+	}
+
+	/**
+	 * Returns an alphabetic list of all words matching a pattern. In the pattern,
+	 * '?' stands for any letter, "[abc]" for one of the listed letters, "[^abc]"
+	 * for any other letter and '*' for any sequence of letters, possibly empty ;
+	 * other characters stand for themselves. Only the children whose letter can
+	 * match are visited, and patterns without '*' also skip the subtrees without
+	 * any word of the right length.
+	 * 
+	 * @param pattern The pattern, for instance "c?a[mn]*"
+	 * @return The list of words matching the pattern
+	 * @throws IllegalArgumentException if the pattern is malformed or has more
+	 *                                  than 63 positions
+	 */
+	public List<String> getWordsMatching(String pattern) {
+		WordPattern compiled = WordPattern.compile(pattern, alphabet);
+		List<String> words = new ArrayList<>();
+		int length = compiled.fixedLength();
+		if (length < 0 || hasWordOfLength(root, length)) {
+			getWordsMatchingRecursive(root, compiled, compiled.start(), new StringBuilder(), length, words);
+		}
+		return words;
+	}
+
+	/**
+	 * Returns an alphabetic list of all words within a given edit distance of a
+	 * word : the number of letters to insert, delete or replace to go from one to
+	 * the other (Levenshtein distance). One row of the distance table is computed
+	 * per node on the path, so words sharing a prefix share its rows, and only
+	 * the cells at most 'maxDistance' away from the diagonal are computed. A
+	 * subtree is skipped as soon as every cell of the row exceeds the maximal
+	 * distance or it holds no word of a close enough length. The distance is
+	 * first reduced to the length of the longest word, which any word is within.
+	 * 
+	 * @param word        The word to approach
+	 * @param maxDistance The maximal edit distance
+	 * @return The list of words at most 'maxDistance' edits away from 'word'
+	 */
+	public List<String> getWordsWithinDistance(String word, int maxDistance) {
+		List<String> words = new ArrayList<>();
+		if (word == null || maxDistance < 0) {
+			return words;
+		}
+		int n = word.length();
+		int longest = longestWordLength(root);
+		// deux mots sont toujours a une distance au plus egale au plus long des deux
+		maxDistance = Math.min(maxDistance, Math.max(n, longest));
+		// une lettre que l'alphabet ne connait pas n'egale aucune lettre
+		int[] target = new int[n];
+		for (int j = 0; j < n; j++) {
+			target[j] = alphabet.code(word.charAt(j));
+		}
+		int[][] rows = new int[Math.max(Math.min(n + maxDistance, longest), 0) + 1][n + 1];
+		for (int j = 0; j <= n; j++) {
+			rows[0][j] = Math.min(j, maxDistance + 1);
+		}
+		if ((root.lengthMask & lengthRangeMask(n - maxDistance, n + maxDistance)) != 0) {
+			getWordsWithinDistanceRecursive(root, target, maxDistance, rows, new StringBuilder(), words);
+		}
+		return words;
+	}
+
+	/**
+	 * Returns an alphabetic list of all words ending with the supplied suffix. With
+	 * a suffix index, the words are found by a prefix search in the index and only
+	 * the matching words are visited ; otherwise the whole tree is walked, except
+	 * the subtrees holding only words shorter than the suffix.
+	 * 
+	 * @param suffix Expected suffix, for instance "tion"
+	 * @return The list of words ending with the supplied suffix
+	 * @see #enableSuffixIndex()
+	 */
+	public List<String> getWordsEndingWith(String suffix) {
+		List<String> words = new ArrayList<>();
+		LexicographicTree index = suffixIndex;
+		if (index != null) {
+			for (String reversed : index.getWords(new StringBuilder(suffix).reverse().toString())) {
+				words.add(new StringBuilder(reversed).reverse().toString());
+			}
+			words.sort(null);
+			return words;
+		}
+		int[] codes = codes(suffix);
+		if (codes != null) {
+			getWordsEndingWithRecursive(root, codes, new StringBuilder(), words);
+		}
+		return words;
+	}
+
+	/**
+	 * Returns an alphabetic list of all words containing the supplied sequence of
+	 * letters. The tree is walked with the automaton of the Knuth-Morris-Pratt
+	 * algorithm, so each letter of a path is read once : as soon as a path holds
+	 * the infix, every word below is collected without further matching, and the
+	 * subtrees without any word long enough to still hold it are skipped.
+	 * 
+	 * @param infix Expected sequence of letters
+	 * @return The list of words containing the supplied sequence
+	 */
+	public List<String> getWordsContaining(String infix) {
+		List<String> words = new ArrayList<>();
+		int[] codes = codes(infix);
+		if (codes != null) {
+			getWordsContainingRecursive(root, codes, failureTable(codes), 0, new StringBuilder(), words);
+		}
+		return words;
+	}
+
+	/**
+	 * Returns an alphabetic list of the words using exactly the supplied letters,
+	 * see {@link #forEachAnagram(String, boolean, Consumer)}.
+	 * 
+	 * @param letters The letters to use, '?' standing for any letter
+	 * @return The list of anagrams of the letters
+	 */
+	public List<String> getAnagrams(String letters) {
+		List<String> words = new ArrayList<>();
+		forEachAnagram(letters, true, words::add);
+		return words;
+	}
+
+	/**
+	 * Returns an alphabetic list of the words using some of the supplied letters,
+	 * see {@link #forEachAnagram(String, boolean, Consumer)}.
+	 * 
+	 * @param letters The letters available, '?' standing for any letter
+	 * @return The list of words that can be formed from the letters
+	 */
+	public List<String> getSubAnagrams(String letters) {
+		List<String> words = new ArrayList<>();
+		forEachAnagram(letters, false, words::add);
+		return words;
+	}
+
+	/**
+	 * Passes to an action, in alphabetic order, each word that can be formed from
+	 * the supplied letters, each letter being used at most once. A '?' is a joker
+	 * standing for any letter ; other characters that cannot be stored are
+	 * skipped. The tree is walked while taking the letters from a counter : only
+	 * the children of the letters left are visited, and a subtree is skipped when
+	 * none of its words has a length the letters left can give. A String is only
+	 * built for the words passed to the action.
+	 * 
+	 * @param letters    The letters available
+	 * @param allLetters True to only accept words using every letter, false to
+	 *                   accept words using some of them
+	 * @param action     The action receiving the words
+	 */
+	public void forEachAnagram(String letters, boolean allLetters, Consumer<String> action) {
+		// les jokers sont comptes dans la derniere case
+		int[] counts = new int[alphabet.size() + 1];
+		int total = 0;
+		for (int i = 0; i < letters.length(); i++) {
+			char c = letters.charAt(i);
+			int code = c == '?' ? alphabet.size() : alphabet.code(c);
+			if (code >= 0) {
+				counts[code]++;
+				total++;
+			}
+		}
+		forEachAnagramRecursive(root, counts, total, allLetters, new char[total], 0, action);
+	}
+
+	/**
+	 * Returns the words starting with the supplied prefix having the greatest
+	 * weights, by decreasing weight then in alphabetic order. The tree is searched
+	 * best first, guided by the greatest weight of each subtree, so only the
+	 * subtrees holding the words returned are opened. In a tree where no word
+	 * ever got a weight, these are the first words in alphabetic order.
+	 * 
+	 * @param prefix Expected prefix
+	 * @param k      The maximal number of words to return
+	 * @return The at most 'k' heaviest words starting with the supplied prefix
+	 */
+	public List<String> topK(String prefix, int k) {
+		List<String> words = new ArrayList<>();
+		LetterNode node = getNodeForPrefix(prefix);
+		if (node == null || k <= 0) {
+			return words;
+		}
+		if (weights == null) {
+			// tous les mots pesent 0 : l'ordre alphabetique suffit
+			Iterator<String> iterator = Spliterators
+					.iterator(new WordSpliterator(node, alphabet.normalize(prefix), alphabet));
+			while (words.size() < k && iterator.hasNext()) {
+				words.add(iterator.next());
+			}
+			return words;
+		}
+		PriorityQueue<WeightedEntry> queue = new PriorityQueue<>();
+		queue.add(new WeightedEntry(node, alphabet.normalize(prefix), maxWeight(node), false));
+		while (!queue.isEmpty() && words.size() < k) {
+			WeightedEntry entry = queue.poll();
+			if (entry.isWord) {
+				words.add(entry.prefix);
+				continue;
+			}
+			LetterNode current = entry.node;
+			if (current.isLeaf) {
+				queue.add(new WeightedEntry(current, entry.prefix, weight(current), true));
+			}
+			for (int i = 0; i < current.childCount(); i++) {
+				LetterNode child = current.child(i);
+				queue.add(new WeightedEntry(child, entry.prefix + alphabet.letter(child.code), maxWeight(child), false));
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * Checks if a prefix or word exists in the lexicographic tree.
+	 * 
+	 * @param prefix The prefix or word to check.
+	 * @return -1 if the prefix is not found, 0 if the prefix is found but is not a
+	 *         complete word, 1 if the prefix is found and is a complete word.
+	 */
+	public int hasPrefixOrWord(String prefix) {
+		return hasPrefixOrWord((CharSequence) prefix);
+	}
+
+	/**
+	 * Checks if a prefix or word exists in the lexicographic tree.
+	 * 
+	 * @param prefix The prefix or word to check.
+	 * @return -1 if the prefix is not found, 0 if the prefix is found but is not a
+	 *         complete word, 1 if the prefix is found and is a complete word.
+	 */
+	public int hasPrefixOrWord(CharSequence prefix) {
+		return status(getNodeForPrefix(prefix));
+	}
+
+	/**
+	 * Checks if the characters of an array range form a prefix or a word of the
+	 * lexicographic tree.
+	 * 
+	 * @param prefix An array containing the prefix
+	 * @param offset The index of the first character of the prefix
+	 * @param length The number of characters of the prefix
+	 * @return -1 if the prefix is not found, 0 if the prefix is found but is not a
+	 *         complete word, 1 if the prefix is found and is a complete word.
+	 */
+	public int hasPrefixOrWord(char[] prefix, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, prefix.length);
+		return status(getNodeForPrefix(prefix, offset, length));
+	}
+
+	/**
+	 * Saves the tree to a binary snapshot that can be reopened with
+	 * {@link MappedLexicographicTree}, without parsing the words again. Nodes are
+	 * numbered in breadth-first order so that the children of a node are
+	 * contiguous.
+	 * 
+	 * @param filename The snapshot file, replaced if it exists
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(String filename) throws IOException {
+		// la liste sert de file : les enfants d'un noeud sont ajoutes a la suite
+		List<LetterNode> nodes = new ArrayList<>();
+		List<Integer> firstChild = new ArrayList<>();
+		nodes.add(root);
+		for (int i = 0; i < nodes.size(); i++) {
+			firstChild.add(nodes.size());
+			LetterNode node = nodes.get(i);
+			for (int j = 0; j < node.childCount(); j++) {
+				nodes.add(node.child(j));
+			}
+		}
+
+		// l'arete numero s - 1 mene au noeud s
+		int count = nodes.size();
+		int[] firstEdge = new int[count + 1];
+		boolean[] isFinal = new boolean[count];
+		char[] labels = new char[count - 1];
+		int[] targets = new int[count - 1];
+		int wordCount = 0;
+		for (int s = 0; s < count; s++) {
+			LetterNode node = nodes.get(s);
+			firstEdge[s] = firstChild.get(s) - 1;
+			isFinal[s] = node.isLeaf;
+			wordCount += node.isLeaf ? 1 : 0;
+			if (s > 0) {
+				labels[s - 1] = alphabet.letter(node.code);
+				targets[s - 1] = s;
+			}
+		}
+		firstEdge[count] = count - 1;
+		MappedLexicographicTree.write(filename, alphabet, wordCount, firstEdge, isFinal, labels, targets);
+	}
+
+	/**
+	 * Returns a new cursor positioned on the empty prefix.
+	 * 
+	 * @return A cursor walking this tree
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+	/**
+	 * Weight of the word ending at a node, and greatest weight of the words ending
+	 * at or below it.
+	 */
+	private static final class NodeWeight {
+		int weight;
+		int maxWeight;
+
+		void set(int weight, int maxWeight) {
+			this.weight = weight;
+			this.maxWeight = maxWeight;
+		}
+	}
+
+	/**
+	 * Entry of the best-first search of {@link #topK(String, int)} : a word, or a
+	 * subtree ranked by its greatest weight. Entries come by decreasing weight
+	 * then alphabetic order, and a subtree always comes before the words it
+	 * holds with the same weight.
+	 */
+	private static final class WeightedEntry implements Comparable<WeightedEntry> {
+		final LetterNode node;
+		final String prefix;
+		final int weight;
+		final boolean isWord;
+
+		WeightedEntry(LetterNode node, String prefix, int weight, boolean isWord) {
+			this.node = node;
+			this.prefix = prefix;
+			this.weight = weight;
+			this.isWord = isWord;
+		}
+
+		@Override
+		public int compareTo(WeightedEntry other) {
+			if (weight != other.weight) {
+				return Integer.compare(other.weight, weight);
+			}
+			return prefix.compareTo(other.prefix);
+		}
+	}
+
+	/*
+	 * CURSOR
+	 */
+
+	/**
+	 * Position in the tree that moves one letter at a time. Extending a prefix by
+	 * one letter costs a single step from the current node instead of a walk from
+	 * the root, and the cursor can back up to the previous prefix. A cursor is
+	 * not thread-safe ; each search should use its own.
+	 */
+	public class Cursor {
+		private LetterNode[] path = new LetterNode[16];
+		private int depth;
+		private int deadSteps;
+
+		private Cursor() {
+			path[0] = root;
+		}
+
+		/**
+		 * Extends the current prefix by one letter. Once the prefix is not in the
+		 * tree, the cursor stays dead until it backs up.
+		 * 
+		 * @param c The next letter
+		 * @return True if the extended prefix is in the tree, false otherwise
+		 */
+		public boolean advance(char c) {
+			int code = alphabet.code(c);
+			if (deadSteps == 0 && code >= 0) {
+				LetterNode next = path[depth].getChild(code);
+				if (next != null) {
+					if (depth + 1 == path.length) {
+						path = Arrays.copyOf(path, path.length * 2);
+					}
+					path[++depth] = next;
+					return true;
+				}
+			}
+			deadSteps++;
+			return false;
+		}
+
+		/**
+		 * Removes the last letter of the current prefix.
+		 * 
+		 * @throws IllegalStateException if the cursor is on the empty prefix
+		 */
+		public void back() {
+			if (deadSteps > 0) {
+				deadSteps--;
+			} else if (depth > 0) {
+				path[depth--] = null;
+			} else {
+				throw new IllegalStateException("cursor is on the empty prefix");
+			}
+		}
+
+		/**
+		 * Moves the cursor back to the empty prefix.
+		 */
+		public void reset() {
+			Arrays.fill(path, 1, depth + 1, null);
+			depth = 0;
+			deadSteps = 0;
+		}
+
+		/**
+		 * Returns the status of the current prefix, with the same meaning as
+		 * {@link LexicographicTree#hasPrefixOrWord(String)}.
+		 * 
+		 * @return -1 if the prefix is not found, 0 if the prefix is found but is not
+		 *         a complete word, 1 if the prefix is found and is a complete word.
+		 */
+		public int status() {
+			return deadSteps > 0 ? -1 : LexicographicTree.status(path[depth]);
+		}
+
+		/**
+		 * Determines if the current prefix is a word of the tree.
+		 * 
+		 * @return True if the prefix is a word, false otherwise
+		 */
+		public boolean isWord() {
+			return status() == 1;
+		}
+
+		/**
+		 * Determines if the current prefix is dead, that is no word starts with it.
+		 * 
+		 * @return True if no word starts with the prefix, false otherwise
+		 */
+		public boolean isDead() {
+			return deadSteps > 0;
+		}
+
+		/**
+		 * Returns the number of letters of the current prefix.
+		 * 
+		 * @return The length of the prefix
+		 */
+		public int length() {
+			return depth + deadSteps;
+		}
+	}
+
+	/*
+	 * BUILDER
+	 */
+
+	/**
+	 * Statistics of a load by {@link Builder#addAll(Path)} : what was read, what
+	 * it gave and how long it took.
+	 */
+	public static final class LoadStatistics {
+		private final long lines;
+		private final int words;
+		private final long bytes;
+		private final long compressedBytes;
+		private final boolean sorted;
+		private final long nanos;
+
+		LoadStatistics(long lines, int words, long bytes, long compressedBytes, boolean sorted, long nanos) {
+			this.lines = lines;
+			this.words = words;
+			this.bytes = bytes;
+			this.compressedBytes = compressedBytes;
+			this.sorted = sorted;
+			this.nanos = nanos;
+		}
+
+		/**
+		 * Returns the number of lines read.
+		 * 
+		 * @return The number of lines
+		 */
+		public long lines() {
+			return lines;
+		}
+
+		/**
+		 * Returns the number of words the load added to the tree, less than the
+		 * number of lines if some lines were duplicates.
+		 * 
+		 * @return The number of new words
+		 */
+		public int words() {
+			return words;
+		}
+
+		/**
+		 * Returns the number of bytes of text read, after decompression.
+		 * 
+		 * @return The number of bytes decoded
+		 */
+		public long bytes() {
+			return bytes;
+		}
+
+		/**
+		 * Returns the size of the compressed file.
+		 * 
+		 * @return The number of compressed bytes, or -1 if the file was not
+		 *         compressed
+		 */
+		public long compressedBytes() {
+			return compressedBytes;
+		}
+
+		/**
+		 * Determines if the lines came in alphabetic order, the fast path of the
+		 * builder.
+		 * 
+		 * @return True if every word was sorted, false otherwise
+		 */
+		public boolean isSorted() {
+			return sorted;
+		}
+
+		/**
+		 * Returns the duration of the load.
+		 * 
+		 * @return The duration in milliseconds
+		 */
+		public double millis() {
+			return nanos / 1e6;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("LoadStatistics[%d lines, %d words, %d bytes%s, %s, %.1f ms]", lines, words, bytes,
+					compressedBytes < 0 ? "" : " (" + compressedBytes + " compressed)",
+					sorted ? "sorted" : "unsorted", millis());
+		}
+	}
+
+	/**
+	 * Bulk construction of a tree from words given in alphabetic order. Each word
+	 * greater than the previous ones is appended along the right-most path of the
+	 * tree, starting from the prefix it shares with the greatest word, so a sorted
+	 * input is loaded in time linear in its number of characters. A word coming
+	 * out of order is inserted normally and the construction goes on.
+	 */
+	public static class Builder {
+		private LexicographicTree tree;
+		/** Right-most path of the tree : the nodes of the greatest word. */
+		private LetterNode[] path = new LetterNode[32];
+		private byte[] last = new byte[32];
+		private int lastLength;
+		/** Codes of the letters of the word being added. */
+		private byte[] key = new byte[32];
+		private boolean sorted = true;
+		/** Number of lines read by {@link #addAll(Path)} and its variants. */
+		private long lineCount;
+
+		/**
+		 * Constructor : starts an empty tree storing the letters of
+		 * {@link Alphabet#FRENCH}.
+		 */
+		public Builder() {
+			this(new LexicographicTree());
+		}
+
+		/**
+		 * Constructor : starts an empty tree.
+		 * 
+		 * @param alphabet The letters the tree can store
+		 */
+		public Builder(Alphabet alphabet) {
+			this(new LexicographicTree(alphabet));
+		}
+
+		/**
+		 * Constructor : fills an empty tree.
+		 * 
+		 * @param tree An empty tree
+		 */
+		private Builder(LexicographicTree tree) {
+			this.tree = tree;
+			path[0] = tree.root;
+		}
+
+		/**
+		 * Adds a word to the tree.
+		 * 
+		 * @param word A word
+		 * @return This builder
+		 */
+		public Builder add(String word) {
+			Alphabet alphabet = checkTree().alphabet;
+			if (word != null) {
+				int length = 0;
+				for (int i = 0; i < word.length(); i++) {
+					length = appendKey(alphabet.code(word.charAt(i)), length);
+				}
+				addKey(length);
+			}
+			return this;
+		}
+
+		/**
+		 * Adds the characters of an array range as a word.
+		 * 
+		 * @param word   An array containing the word
+		 * @param offset The index of the first character of the word
+		 * @param length The number of characters of the word
+		 * @return This builder
+		 */
+		public Builder add(char[] word, int offset, int length) {
+			Objects.checkFromIndexSize(offset, length, word.length);
+			Alphabet alphabet = checkTree().alphabet;
+			int keyLength = 0;
+			for (int i = offset; i < offset + length; i++) {
+				keyLength = appendKey(alphabet.code(word[i]), keyLength);
+			}
+			addKey(keyLength);
+			return this;
+		}
+
+		/**
+		 * Adds the words of a file, one word per line, lines ending with "\r\n",
+		 * "\r" or "\n" as in {@link Files#readAllLines(Path)}. The file is read
+		 * through a channel and decoded in place : no String is built for the lines.
+		 * A file starting with the gzip magic number is decompressed on the fly.
+		 * 
+		 * @param path A text file encoded in UTF-8, possibly gzip compressed
+		 * @return The statistics of the load
+		 * @throws IOException if the file cannot be read or is not valid UTF-8 ; the
+		 *                     words read before the error stay in the tree
+		 */
+		public LoadStatistics addAll(Path path) throws IOException {
+			long startTime = System.nanoTime();
+			try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+				ReadableByteChannel input = decompressed(file);
+				return addAll(input, StandardCharsets.UTF_8, input != file ? file.size() : -1, startTime);
+			}
+		}
+
+		/**
+		 * Adds the words read from a channel, one word per line, like
+		 * {@link #addAll(Path)}. Any decompression can be plugged in by passing the
+		 * channel of a decompressing stream. The channel is not closed.
+		 * 
+		 * @param channel A channel giving lines of text
+		 * @param charset The encoding of the text
+		 * @return The statistics of the load
+		 * @throws IOException if the channel cannot be read or the text is not valid
+		 *                     in the charset
+		 */
+		public LoadStatistics addAll(ReadableByteChannel channel, Charset charset) throws IOException {
+			return addAll(channel, charset, -1, System.nanoTime());
+		}
+
+		/**
+		 * Determines if every word added so far came in alphabetic order.
+		 * 
+		 * @return True if the words were sorted, false otherwise
+		 */
+		public boolean isSorted() {
+			return sorted;
+		}
+
+		/**
+		 * Returns the tree built. The builder cannot be used afterwards.
+		 * 
+		 * @return The tree containing the words added
+		 */
+		public LexicographicTree build() {
+			LexicographicTree result = checkTree();
+			tree = null;
+			return result;
+		}
+
+		private LexicographicTree checkTree() {
+			if (tree == null) {
+				throw new IllegalStateException("tree already built");
+			}
+			return tree;
+		}
+
+		/**
+		 * Adds the lines of a channel and measures the load.
+		 * 
+		 * @param channel        A channel giving lines of text
+		 * @param charset        The encoding of the text
+		 * @param compressedSize The size of the compressed file, -1 if not
+		 *                       compressed
+		 * @param startTime      The time the load started, in nanoseconds
+		 * @return The statistics of the load
+		 * @throws IOException if the channel cannot be read or the text is not valid
+		 *                     in the charset
+		 */
+		private LoadStatistics addAll(ReadableByteChannel channel, Charset charset, long compressedSize,
+				long startTime) throws IOException {
+			LexicographicTree target = checkTree();
+			int wordsBefore = target.size();
+			long linesBefore = lineCount;
+			long byteCount = readLines(channel, charset, this::addLine);
+			return new LoadStatistics(lineCount - linesBefore, target.size() - wordsBefore, byteCount, compressedSize,
+					sorted, System.nanoTime() - startTime);
+		}
+
+		/**
+		 * Adds a line read from a file as a word.
+		 * 
+		 * @param line   An array containing the line
+		 * @param offset The index of the first character of the line
+		 * @param length The number of characters of the line
+		 */
+		private void addLine(char[] line, int offset, int length) {
+			add(line, offset, length);
+			lineCount++;
+		}
+
+		/**
+		 * Adds a word given by the codes of its letters.
+		 * 
+		 * @param codes  An array containing the codes of the letters, see
+		 *               {@link Alphabet#code(char)}
+		 * @param offset The index of the code of the first letter
+		 * @param length The number of letters of the word
+		 */
+		void addKey(byte[] codes, int offset, int length) {
+			checkTree();
+			if (key.length < length) {
+				key = Arrays.copyOf(key, length * 2);
+			}
+			System.arraycopy(codes, offset, key, 0, length);
+			addKey(length);
+		}
+
+		/**
+		 * Returns the channel reading the text of a file, decompressing it on the fly
+		 * if it starts with the gzip magic number.
+		 * 
+		 * @param file An open file
+		 * @return The file itself, or a decompressing channel over it
+		 * @throws IOException if the file cannot be read
+		 */
+		static ReadableByteChannel decompressed(FileChannel file) throws IOException {
+			// nombre magique gzip : 1f 8b
+			ByteBuffer magic = ByteBuffer.allocate(2);
+			file.read(magic, 0);
+			if (magic.position() == 2 && (magic.get(0) & 0xff) == 0x1f && (magic.get(1) & 0xff) == 0x8b) {
+				return Channels.newChannel(new GZIPInputStream(Channels.newInputStream(file), BUFFER_SIZE));
+			}
+			return file;
+		}
+
+		/**
+		 * Decodes a channel by blocks and passes each complete line of the block to
+		 * a consumer, lines ending with "\r\n", "\r" or "\n". The lines are slices
+		 * of the decoding buffer : no String is built.
+		 * 
+		 * @param channel A channel giving lines of text
+		 * @param charset The encoding of the text
+		 * @param lines   The consumer of the lines
+		 * @return The number of bytes read
+		 * @throws IOException if the channel cannot be read or the text is not valid
+		 *                     in the charset
+		 */
+		static long readLines(ReadableByteChannel channel, Charset charset, LineConsumer lines) throws IOException {
+			CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+					.onUnmappableCharacter(CodingErrorAction.REPORT);
+			ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+			CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+			long byteCount = 0;
+			// dernier caractere lu : un '\r', meme en fin de bloc, absorbe le '\n' qui suit
+			boolean afterCr = false;
+			boolean endOfInput = false;
+			while (true) {
+				if (!endOfInput) {
+					int read = channel.read(bytes);
+					if (read < 0) {
+						endOfInput = true;
+					} else {
+						byteCount += read;
+					}
+				}
+				bytes.flip();
+				CoderResult result = decoder.decode(bytes, chars, endOfInput);
+				bytes.compact();
+				if (result.isError()) {
+					result.throwException();
+				}
+				boolean done = endOfInput && result.isUnderflow();
+				if (done) {
+					while (decoder.flush(chars).isOverflow()) {
+						chars = grow(chars);
+					}
+				}
+
+				// lignes completes du bloc, terminees par "\r\n", "\r" ou "\n"
+				chars.flip();
+				char[] array = chars.array();
+				int start = 0;
+				for (int i = 0; i < chars.limit(); i++) {
+					char c = array[i];
+					if (c == '\n' && afterCr) {
+						start = i + 1;
+					} else if (c == '\n' || c == '\r') {
+						lines.accept(array, start, i - start);
+						start = i + 1;
+					}
+					afterCr = c == '\r';
+				}
+				if (done) {
+					if (start < chars.limit()) {
+						lines.accept(array, start, chars.limit() - start);
+					}
+					return byteCount;
+				}
+				chars.position(start);
+				chars.compact();
+				if (!chars.hasRemaining()) {
+					// ligne plus longue que le tampon
+					chars = grow(chars);
+				}
+			}
+		}
+
+		/**
+		 * Doubles the capacity of a buffer being filled.
+		 * 
+		 * @param chars A buffer in write mode
+		 * @return A larger buffer holding the same characters, in write mode
+		 */
+		private static CharBuffer grow(CharBuffer chars) {
+			chars.flip();
+			return CharBuffer.allocate(chars.capacity() * 2).put(chars);
+		}
+
+		/**
+		 * Appends the code of a character to the key being read if the character
+		 * can be stored in the tree.
+		 * 
+		 * @param code   The code of a character of the word, -1 if it cannot be
+		 *               mapped
+		 * @param length The length of the key so far
+		 * @return The new length of the key
+		 */
+		private int appendKey(int code, int length) {
+			if (code < 0) {
+				return length;
+			}
+			if (length == key.length) {
+				key = Arrays.copyOf(key, length * 2);
+			}
+			key[length] = (byte) code;
+			return length + 1;
+		}
+
+		/**
+		 * Adds the key read to the tree, along the right-most path if it is not lower
+		 * than the greatest word.
+		 * 
+		 * @param length The length of the key
+		 */
+		private void addKey(int length) {
+			LexicographicTree target = checkTree();
+			int common = 0;
+			while (common < length && common < lastLength && key[common] == last[common]) {
+				common++;
+			}
+			boolean lower = common < length ? common < lastLength && key[common] < last[common]
+					: common < lastLength;
+			if (lower) {
+				sorted = false;
+				target.insertKey(key, length);
+				return;
+			}
+
+			if (path.length <= length) {
+				path = Arrays.copyOf(path, length * 2);
+				last = Arrays.copyOf(last, length * 2);
+			}
+			for (int depth = common; depth < length; depth++) {
+				// la nouvelle lettre est plus grande que celles des autres enfants
+				LetterNode newNode = new LetterNode(key[depth]);
+				path[depth].appendChild(newNode);
+				path[depth + 1] = newNode;
+				last[depth] = key[depth];
+			}
+			for (int depth = 0; depth <= length; depth++) {
+				addWordBelow(path[depth], length - depth);
+			}
+			if (!path[length].isLeaf) {
+				path[length].isLeaf = true;
+				for (int depth = 0; depth <= length; depth++) {
+					path[depth].wordCount++;
+				}
+			}
+			lastLength = length;
+		}
+	}
+
+	/**
+	 * Receives the lines of a file, as slices of the buffer they are decoded in.
+	 * The slice is only valid during the call.
+	 */
+	interface LineConsumer {
+		/**
+		 * Receives a line, without its line ending.
+		 * 
+		 * @param line   An array containing the line
+		 * @param offset The index of the first character of the line
+		 * @param length The number of characters of the line
+		 */
+		void accept(char[] line, int offset, int length);
+	}
+
+	/**
+	 * Splitter of a file for {@link LexicographicTree#loadParallel(String, Alphabet)}
+	 * : the codes of the letters of each line are appended to the buffer of its
+	 * first letter, each word followed by -1, then the subtree of each letter is
+	 * built from its buffer.
+	 */
+	private static final class Partitioner implements LineConsumer {
+		private final Alphabet alphabet;
+		/** Codes of the words of each leading letter, null if there is none. */
+		private final byte[][] codes;
+		/** Number of codes used in each buffer. */
+		private final int[] lengths;
+		/** True if a line has no letter of the alphabet : it gives the empty word. */
+		private boolean emptyWord;
+
+		Partitioner(Alphabet alphabet) {
+			this.alphabet = alphabet;
+			codes = new byte[alphabet.size()][];
+			lengths = new int[alphabet.size()];
+		}
+
+		@Override
+		public void accept(char[] line, int offset, int length) {
+			int end = offset + length;
+			int first = -1;
+			int i = offset;
+			while (i < end && first < 0) {
+				first = alphabet.code(line[i++]);
+			}
+			if (first < 0) {
+				emptyWord = true;
+				return;
+			}
+			// au plus un code par caractere, plus le separateur
+			byte[] buffer = codes[first];
+			int size = lengths[first];
+			int needed = size + end - i + 2;
+			if (buffer == null || buffer.length < needed) {
+				buffer = Arrays.copyOf(buffer == null ? new byte[0] : buffer,
+						Math.max(needed, buffer == null ? BUFFER_SIZE : buffer.length * 2));
+				codes[first] = buffer;
+			}
+			buffer[size++] = (byte) first;
+			for (; i < end; i++) {
+				int code = alphabet.code(line[i]);
+				if (code >= 0) {
+					buffer[size++] = (byte) code;
+				}
+			}
+			buffer[size++] = -1;
+			lengths[first] = size;
+		}
+
+		/**
+		 * Builds the subtree of a leading letter from its buffer.
+		 * 
+		 * @param first The code of the leading letter
+		 * @return The node of the letter, holding the words starting with it
+		 */
+		LetterNode build(int first) {
+			Builder builder = new Builder(alphabet);
+			byte[] buffer = codes[first];
+			int start = 0;
+			for (int i = 0; i < lengths[first]; i++) {
+				if (buffer[i] < 0) {
+					builder.addKey(buffer, start, i - start);
+					start = i + 1;
+				}
+			}
+			return builder.build().root.child(0);
+		}
+	}
+
+	/*
+	 * PACKAGE METHODS
+	 */
+
+	/**
+	 * Determines if a character is kept when a word is inserted with the default
+	 * alphabet : lowercase letters from 'a' to 'z', '-' and '\''. Other characters
+	 * are skipped.
+	 * 
+	 * @param c A character
+	 * @return True if the character can be stored in the tree, false otherwise
+	 */
+	static boolean isValidLetter(char c) {
+		return Alphabet.FRENCH.code(c) >= 0;
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	/**
+	 * Maps the characters of a word to codes, skipping the characters the
+	 * alphabet cannot map.
+	 * 
+	 * @param word A word
+	 * @param key  An array receiving the codes, as long as the word
+	 * @return The number of codes
+	 */
+	private int encode(CharSequence word, byte[] key) {
+		int length = 0;
+		for (int i = 0; i < word.length(); i++) {
+			int code = alphabet.code(word.charAt(i));
+			if (code >= 0) {
+				key[length++] = (byte) code;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * Returns the buffer receiving the codes of a word to insert, grown if needed.
+	 * 
+	 * @param length The number of characters of the word
+	 * @return A buffer of at least this length
+	 */
+	private byte[] keyBuffer(int length) {
+		if (keyBuffer.length < length) {
+			keyBuffer = new byte[Math.max(length, keyBuffer.length * 2)];
+		}
+		return keyBuffer;
+	}
+
+	/**
+	 * Inserts a word given by the codes of its letters. The nodes of the word are
+	 * found or created in a first walk ; only a new word needs a second walk,
+	 * updating the summaries and word counts of the nodes on its path.
+	 * 
+	 * @param key    An array starting with the codes of the letters of the word
+	 * @param length The number of letters of the word
+	 * @return True if the word was added, false if it was already present
+	 */
+	private boolean insertKey(byte[] key, int length) {
+		LetterNode node = root;
+		for (int i = 0; i < length; i++) {
+			node = node.getOrCreateChild(key[i]);
+		}
+		if (node.isLeaf) {
+			return false;
+		}
+		node.isLeaf = true;
+
+		node = root;
+		for (int i = 0; i <= length; i++) {
+			if (i > 0) {
+				node = node.getChild(key[i - 1]);
+			}
+			addWordBelow(node, length - i);
+			node.wordCount++;
+		}
+		if (bloomFilter != null) {
+			bloomFilter.add(BloomFilter.hash(key, length));
+		}
+		if (suffixIndex != null) {
+			suffixIndex.insertReversed(key, length);
+		}
+		return true;
+	}
+
+	/**
+	 * Maps every character of a word to its code.
+	 * 
+	 * @param word A word
+	 * @return The codes of the characters, or null if one of them cannot be mapped
+	 */
+	private int[] codes(CharSequence word) {
+		int[] codes = new int[word.length()];
+		for (int i = 0; i < codes.length; i++) {
+			codes[i] = alphabet.code(word.charAt(i));
+			if (codes[i] < 0) {
+				return null;
+			}
+		}
+		return codes;
+	}
+
+	/**
+	 * Inserts a word read backwards, as a suffix index does.
+	 * 
+	 * @param key    An array starting with the codes of the letters of a word
+	 * @param length The number of letters of the word
+	 */
+	private void insertReversed(byte[] key, int length) {
+		byte[] reversed = keyBuffer(length);
+		for (int i = 0; i < length; i++) {
+			reversed[i] = key[length - 1 - i];
+		}
+		insertKey(reversed, length);
+	}
+
+	/**
+	 * Sets the weight of the word ending at the end of a path, and updates the
+	 * greatest weights along the path.
+	 * 
+	 * @param path   The nodes on the path of a word
+	 * @param depth  The length of the word
+	 * @param weight The new weight of the word
+	 */
+	private void setWeight(LetterNode[] path, int depth, int weight) {
+		if (weights == null) {
+			if (weight == 0) {
+				// sans poids, tous les mots pesent deja 0
+				return;
+			}
+			weights = new IdentityHashMap<>();
+		}
+		putWeight(path[depth], weight, Math.max(weight, maxWeightBelow(path[depth])));
+		// les maximums ne peuvent baisser que jusqu'au premier noeud inchange
+		for (int d = depth - 1; d >= 0; d--) {
+			int max = maxWeightOf(path[d]);
+			if (max == maxWeight(path[d])) {
+				break;
+			}
+			putWeight(path[d], weight(path[d]), max);
+		}
+	}
+
+	/**
+	 * Updates the summaries of a node for a word ending below it.
+	 * 
+	 * @param node   A node on the path of the word
+	 * @param length The number of letters of the word below the node
+	 */
+	private static void addWordBelow(LetterNode node, int length) {
+		node.lengthMask |= lengthBit(length);
+	}
+
+	/**
+	 * Finds the node corresponding to the given prefix.
+	 * 
+	 * @param prefix The prefix to search for.
+	 * @return The node corresponding to the prefix, or null if not found.
+	 */
+	private LetterNode getNodeForPrefix(CharSequence prefix) {
+		LetterNode node = root;
+		for (int i = 0; i < prefix.length() && node != null; i++) {
+			node = getChild(node, prefix.charAt(i));
+		}
+		return node;
+	}
+
+	/**
+	 * Finds the nodes on the path of a word.
+	 * 
+	 * @param word A word
+	 * @return The nodes from the root to the last letter of the word, or null if
+	 *         the word is not a prefix of the tree
+	 */
+	private LetterNode[] getPath(String word) {
+		LetterNode[] path = new LetterNode[word.length() + 1];
+		path[0] = root;
+		for (int i = 0; i < word.length(); i++) {
+			path[i + 1] = getChild(path[i], word.charAt(i));
+			if (path[i + 1] == null) {
+				return null;
+			}
+		}
+		return path;
+	}
+
+	/**
+	 * Finds the nodes on the path of a word given by the codes of its letters.
+	 * 
+	 * @param key    An array starting with the codes of the letters of the word
+	 * @param length The number of letters of the word
+	 * @return The nodes from the root to the last letter of the word, or null if
+	 *         the word is not a prefix of the tree
+	 */
+	private LetterNode[] getPath(byte[] key, int length) {
+		LetterNode[] path = new LetterNode[length + 1];
+		path[0] = root;
+		for (int i = 0; i < length; i++) {
+			path[i + 1] = path[i].getChild(key[i]);
+			if (path[i + 1] == null) {
+				return null;
+			}
+		}
+		return path;
+	}
+
+	/**
+	 * Finds the child of a node holding the given letter.
+	 * 
+	 * @param node A node
+	 * @param c    The letter to find
+	 * @return The child holding the letter, or null if not found.
+	 */
+	private LetterNode getChild(LetterNode node, char c) {
+		int code = alphabet.code(c);
+		return code < 0 ? null : node.getChild(code);
+	}
+
+	/**
+	 * Finds the node corresponding to the prefix stored in an array range.
+	 * 
+	 * @param prefix An array containing the prefix
+	 * @param offset The index of the first character of the prefix
+	 * @param length The number of characters of the prefix
+	 * @return The node corresponding to the prefix, or null if not found.
+	 */
+	private LetterNode getNodeForPrefix(char[] prefix, int offset, int length) {
+		LetterNode node = root;
+		for (int i = offset; i < offset + length && node != null; i++) {
+			node = getChild(node, prefix[i]);
+		}
+		return node;
+	}
+
+	/**
+	 * Hashes a word for the Bloom filter and checks it.
+	 * 
+	 * @param filter The Bloom filter of the tree
+	 * @param word   A word
+	 * @return True if the word is certainly absent, false otherwise
+	 */
+	private boolean filterRejects(BloomFilter filter, CharSequence word) {
+		long hash = BloomFilter.hashStart();
+		for (int i = 0; i < word.length(); i++) {
+			int code = alphabet.code(word.charAt(i));
+			if (code < 0) {
+				// un caractere non traduit n'est jamais trouve
+				return true;
+			}
+			hash = BloomFilter.hashStep(hash, code);
+		}
+		return !filter.mightContain(hash);
 	}
 
 	/**
-	 * Constructor : creates a lexicographic tree populated with words
+	 * Hashes a word stored in an array range for the Bloom filter and checks it.
 	 * 
-	 * @param filename A text file containing the words to be inserted in the tree
-	 * @throws IOException
+	 * @param filter The Bloom filter of the tree
+	 * @param word   An array containing the word
+	 * @param offset The index of the first character of the word
+	 * @param length The number of characters of the word
+	 * @return True if the word is certainly absent, false otherwise
 	 */
-	public LexicographicTree(String filename) {
-		this();
-		try {
-			List<String> list = Files.readAllLines(Paths.get(filename));
-			for (String str : list) {
-				insertWord(str);
+	private boolean filterRejects(BloomFilter filter, char[] word, int offset, int length) {
+		long hash = BloomFilter.hashStart();
+		for (int i = offset; i < offset + length; i++) {
+			int code = alphabet.code(word[i]);
+			if (code < 0) {
+				return true;
 			}
-		} catch (IOException e) {
-			//if a error is catch just ignore that just create a dictionary empty
+			hash = BloomFilter.hashStep(hash, code);
 		}
+		return !filter.mightContain(hash);
 	}
 
-	/*
-	 * PUBLIC METHODS
-	 */
-
 	/**
-	 * Returns the number of words present in the lexicographic tree.
+	 * Converts the node reached by a word into the result of containsWord,
+	 * counting the false positives of the Bloom filter.
 	 * 
-	 * @return The number of words present in the lexicographic tree
+	 * @param filter The Bloom filter checked before, or null
+	 * @param node   The node reached, or null
+	 * @return True if the node ends a word, false otherwise
 	 */
-	public int size() {
-		return sizeRecursive(root);
+	private static boolean found(BloomFilter filter, LetterNode node) {
+		boolean found = node != null && node.isLeaf;
+		if (!found && filter != null) {
+			filter.recordFalsePositive();
+		}
+		return found;
 	}
 
 	/**
-	 * Inserts a word in the lexicographic tree if not already present.
+	 * Adds the words below a node, reversed, to a suffix index.
 	 * 
-	 * @param word A word
+	 * @param node  The current node being examined.
+	 * @param key   The codes of the letters leading to the node.
+	 * @param depth The number of letters leading to the node.
+	 * @param index The tree receiving the reversed words.
 	 */
-	public void insertWord(String word) {
-		if (word != null) {
-			insertRecursive(root, word);
+	private static void addToSuffixIndex(LetterNode node, byte[] key, int depth, LexicographicTree index) {
+		if (node.isLeaf) {
+			index.insertReversed(key, depth);
+		}
+		for (int i = 0; i < node.childCount(); i++) {
+			LetterNode child = node.child(i);
+			if (depth == key.length) {
+				key = Arrays.copyOf(key, depth * 2);
+			}
+			key[depth] = child.code;
+			addToSuffixIndex(child, key, depth + 1, index);
 		}
 	}
 
 	/**
-	 * Determines if a word is present in the lexicographic tree.
+	 * Adds the words below a node to a Bloom filter.
 	 * 
-	 * @param word A word
-	 * @return True if the word is present, false otherwise
+	 * @param node   The current node being examined.
+	 * @param hash   The hash of the letters leading to the node.
+	 * @param filter The filter receiving the words.
 	 */
-	public boolean containsWord(String word) {
-		return word != null && !word.isEmpty() && searchRecursive(root, word);
+	private static void addToFilter(LetterNode node, long hash, BloomFilter filter) {
+		if (node.isLeaf) {
+			filter.add(hash);
+		}
+		for (int i = 0; i < node.childCount(); i++) {
+			LetterNode child = node.child(i);
+			addToFilter(child, BloomFilter.hashStep(hash, child.code), filter);
+		}
 	}
 
 	/**
-	 * Returns an alphabetic list of all words starting with the supplied prefix. If
-	 * 'prefix' is an empty string, all words are returned.
+	 * Returns the indices of the words of a batch in alphabetic order, without
+	 * sorting if the words already are. Otherwise each word gets a long made of
+	 * the codes of its first letters followed by its index, and these longs are
+	 * sorted : words sharing those first letters stay in batch order, which is
+	 * enough to walk their common prefix once.
 	 * 
-	 * @param prefix Expected prefix
-	 * @return The list of words starting with the supplied prefix
+	 * @param words    The words of a batch
+	 * @param parallel True to sort in parallel
+	 * @return The indices of the non-null words, sorted by their first letters
 	 */
-	public List<String> getWords(String prefix) {
-		List<String> words = new ArrayList<>();
-		LetterNode node = getNodeForPrefix(root, prefix);
-		if (node != null) {
-			collectWords(node, prefix, words);
+	private int[] sortedOrder(String[] words, boolean parallel) {
+		int count = 0;
+		boolean sorted = true;
+		String previous = null;
+		for (String word : words) {
+			if (word != null) {
+				if (sorted && previous != null && previous.compareTo(word) > 0) {
+					sorted = false;
+				}
+				previous = word;
+				count++;
+			}
 		}
-		return words;
+		int[] order = new int[count];
+		if (sorted) {
+			count = 0;
+			for (int i = 0; i < words.length; i++) {
+				if (words[i] != null) {
+					order[count++] = i;
+				}
+			}
+			return order;
+		}
+
+		// 6 bits par lettre : le code plus un, 0 apres la fin du mot
+		int indexBits = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, words.length - 1));
+		int letters = (Long.SIZE - 1 - indexBits) / 6;
+		long[] keys = new long[count];
+		count = 0;
+		for (int i = 0; i < words.length; i++) {
+			String word = words[i];
+			if (word != null) {
+				long key = 0;
+				for (int j = 0; j < letters; j++) {
+					key = key << 6 | (j < word.length() ? alphabet.code(word.charAt(j)) + 1 : 0);
+				}
+				keys[count++] = key << indexBits | i;
+			}
+		}
+		if (parallel) {
+			Arrays.parallelSort(keys);
+		} else {
+			Arrays.sort(keys);
+		}
+		long indexMask = (1L << indexBits) - 1;
+		for (int i = 0; i < keys.length; i++) {
+			order[i] = (int) (keys[i] & indexMask);
+		}
+		return order;
 	}
 
 	/**
-	 * Returns an alphabetic list of all words of a given length. If 'length' is
-	 * lower than or equal to zero, an empty list is returned.
+	 * Looks up a range of words of a batch, walking the prefix shared by two
+	 * consecutive words only once.
 	 * 
-	 * @param length Expected word length
-	 * @return The list of words with the given length
+	 * @param words The words of a batch
+	 * @param order The indices of the words, sorted
+	 * @param from  The position in 'order' of the first word of the range
+	 * @param to    The position in 'order' after the last word of the range
+	 * @param found The indices of the words present, completed
 	 */
-	public List<String> getWordsOfLength(int length) {
-		List<String> words = new ArrayList<>();
-		getWordsOfLengthRecursive(root, "", length, words);
-		return words;
+	private void containsSorted(String[] words, int[] order, int from, int to, BitSet found) {
+		LetterNode[] path = new LetterNode[Long.SIZE];
+		path[0] = root;
+		String previous = "";
+		// nombre de lettres du mot precedent presentes dans l'arbre
+		int reached = 0;
+		for (int k = from; k < to; k++) {
+			String word = words[order[k]];
+			int depth = 0;
+			int shared = Math.min(reached, word.length());
+			while (depth < shared && word.charAt(depth) == previous.charAt(depth)) {
+				depth++;
+			}
+			if (path.length <= word.length()) {
+				path = Arrays.copyOf(path, word.length() * 2);
+			}
+			while (depth < word.length()) {
+				LetterNode child = getChild(path[depth], word.charAt(depth));
+				if (child == null) {
+					break;
+				}
+				path[++depth] = child;
+			}
+			if (depth == word.length() && depth > 0 && path[depth].isLeaf) {
+				found.set(order[k]);
+			}
+			previous = word;
+			reached = depth;
+		}
 	}
 
 	/**
-	 * Checks if a prefix or word exists in the lexicographic tree.
+	 * Converts the node reached by a prefix into the result of hasPrefixOrWord.
 	 * 
-	 * @param prefix The prefix or word to check.
-	 * @return -1 if the prefix is not found, 0 if the prefix is found but is not a
-	 *         complete word, 1 if the prefix is found and is a complete word.
+	 * @param node The node reached, or null
+	 * @return -1 if there is no node, 1 if the node ends a word, 0 otherwise
 	 */
-	public int hasPrefixOrWord(String prefix) {
-	
-	    LetterNode node = root;
-	    int i = 0;
-	    while (i < prefix.length()) {
-	        char c = prefix.charAt(i);
-	        boolean found = false;
-	        for (LetterNode child = node.child; child != null; child = child.sibling) {
-	            if (child.charValue == c) {
-	                node = child;
-	                found = true;
-	                break;
-	            } else if (child.charValue > c) {
-	                return -1;
-	            }
-	        }
-	        if (!found) {
-	            return -1;
-	        }
-	        i++;
-	    }
-	    return node.isLeaf ? 1 : 0;
+	private static int status(LetterNode node) {
+		if (node == null) {
+			return -1;
+		}
+		return node.isLeaf ? 1 : 0;
 	}
 
-	/*
-	 * PRIVATE METHODS
-	 */
-
 	/**
-	 * Recursively finds the node corresponding to the given prefix.
+	 * Collects all words starting from the given node and with the given prefix.
 	 * 
 	 * @param node   The current node being examined.
-	 * @param prefix The prefix to search for.
-	 * @return The node corresponding to the prefix, or null if not found.
+	 * @param prefix The prefix of the words, restored before returning.
+	 * @param words  The list of words found.
 	 */
-	private LetterNode getNodeForPrefix(LetterNode node, String prefix) {
-		if (prefix.isEmpty()) {
-			return node;
+	private void collectWords(LetterNode node, StringBuilder prefix, List<String> words) {
+		if (node.isLeaf) {
+			words.add(prefix.toString());
 		}
 
-		char firstChar = prefix.charAt(0);
-		String remainingPrefix = prefix.substring(1);
+		for (int i = 0; i < node.childCount(); i++) {
+			LetterNode child = node.child(i);
+			prefix.append(alphabet.letter(child.code));
+			collectWords(child, prefix, words);
+			prefix.setLength(prefix.length() - 1);
+		}
+	}
 
-		for (LetterNode child = node.child; child != null; child = child.sibling) {
-			if (child.charValue == firstChar) {
-				return getNodeForPrefix(child, remainingPrefix);
-			} else if (child.charValue > firstChar) {
-				break;
+	/**
+	 * Recursively collects all words of a given length below the given node,
+	 * skipping the children without any word of the remaining length.
+	 * 
+	 * @param node   The current node being examined.
+	 * @param word   The letters leading to the node, restored before returning.
+	 * @param length The remaining length of the words to collect.
+	 * @param words  The list of words found.
+	 */
+	private void getWordsOfLengthRecursive(LetterNode node, StringBuilder word, int length, List<String> words) {
+		if (length == 0) {
+			words.add(word.toString());
+			return;
+		}
+		for (int i = 0; i < node.childCount(); i++) {
+			LetterNode child = node.child(i);
+			if (hasWordOfLength(child, length - 1)) {
+				word.append(alphabet.letter(child.code));
+				getWordsOfLengthRecursive(child, word, length - 1, words);
+				word.setLength(word.length() - 1);
 			}
 		}
+	}
 
-		return null;
+	/**
+	 * Recursively collects the words matching a pattern below the given node. The
+	 * letters tried are the children present in the node and accepted by one of
+	 * the active positions of the pattern.
+	 * 
+	 * @param node    The current node being examined.
+	 * @param pattern The compiled pattern.
+	 * @param states  The positions of the pattern active at the node.
+	 * @param word    The letters leading to the node, restored before returning.
+	 * @param length  The remaining length of the words, or -1 if not fixed.
+	 * @param words   The list of words found.
+	 */
+	private void getWordsMatchingRecursive(LetterNode node, WordPattern pattern, long states, StringBuilder word,
+			int length, List<String> words) {
+		if (node.isLeaf && pattern.accepts(states)) {
+			words.add(word.toString());
+		}
+		if (length == 0) {
+			return;
+		}
+		int letters = node.childMask & pattern.nextLetters(states);
+		for (; letters != 0; letters &= letters - 1) {
+			int code = Integer.numberOfTrailingZeros(letters);
+			LetterNode child = node.getChild(code);
+			if (length > 0 && !hasWordOfLength(child, length - 1)) {
+				continue;
+			}
+			long next = pattern.step(states, code);
+			if (next != 0) {
+				word.append(alphabet.letter(child.code));
+				getWordsMatchingRecursive(child, pattern, next, word, length < 0 ? -1 : length - 1, words);
+				word.setLength(word.length() - 1);
+			}
+		}
 	}
 
 	/**
-	 * Collects all words starting from the given node and with the given prefix.
+	 * Recursively collects the words ending with a suffix below the given node.
 	 * 
 	 * @param node   The current node being examined.
-	 * @param prefix The prefix of the words.
+	 * @param suffix The codes of the letters of the suffix.
+	 * @param word   The letters leading to the node, restored before returning.
 	 * @param words  The list of words found.
 	 */
-	private void collectWords(LetterNode node, String prefix, List<String> words) {
-		if (node.isLeaf) {
-			words.add(prefix);
+	private void getWordsEndingWithRecursive(LetterNode node, int[] suffix, StringBuilder word, List<String> words) {
+		if ((node.lengthMask & lengthRangeMask(suffix.length - word.length(), Integer.SIZE)) == 0) {
+			return;
+		}
+		if (node.isLeaf && endsWith(word, suffix)) {
+			words.add(word.toString());
 		}
+		for (int i = 0; i < node.childCount(); i++) {
+			LetterNode child = node.child(i);
+			word.append(alphabet.letter(child.code));
+			getWordsEndingWithRecursive(child, suffix, word, words);
+			word.setLength(word.length() - 1);
+		}
+	}
 
-		for (LetterNode child = node.child; child != null; child = child.sibling) {
-			collectWords(child, prefix + child.charValue, words);
+	/**
+	 * Determines if the letters of a word end with the letters of some codes.
+	 * 
+	 * @param word   The letters of a word
+	 * @param suffix The codes of the letters of the suffix
+	 * @return True if the word ends with the suffix, false otherwise
+	 */
+	private boolean endsWith(StringBuilder word, int[] suffix) {
+		int start = word.length() - suffix.length;
+		if (start < 0) {
+			return false;
+		}
+		for (int i = 0; i < suffix.length; i++) {
+			if (word.charAt(start + i) != alphabet.letter(suffix[i])) {
+				return false;
+			}
 		}
+		return true;
 	}
 
 	/**
-	 * Recursively inserts a word into the lexicographic tree.
+	 * Recursively collects the words containing an infix below the given node.
 	 * 
-	 * @param node The current node being examined.
-	 * @param key  The remaining key to be inserted.
+	 * @param node    The current node being examined.
+	 * @param infix   The codes of the letters of the infix.
+	 * @param failure The failure table of the infix.
+	 * @param matched The number of letters of the infix ending the path to the
+	 *                node.
+	 * @param word    The letters leading to the node, restored before returning.
+	 * @param words   The list of words found.
 	 */
-	private void insertRecursive(LetterNode node, String key) {
-		
-		// condition d'arret
-		if (key.isBlank()) {
-			node.isLeaf = true;
+	private void getWordsContainingRecursive(LetterNode node, int[] infix, int[] failure, int matched,
+			StringBuilder word, List<String> words) {
+		if (matched == infix.length) {
+			collectWords(node, word, words);
 			return;
 		}
-
-		// decoupage du mot entre
-		int i = 0;
-		char firstChar;
-		do {
-			firstChar = key.charAt(i);
-			i++;
-		}while(!Character.isLowerCase(firstChar) 
-				&& firstChar != '-' 
-				&& firstChar != '\'' 
-				&&  i < key.length());
-			
-		String remainingKey = key.substring(i);
-
-		
-		LetterNode child = node.child;
-		LetterNode prev = null;
-
-		// tant que child est different de null et que la valeur de de child est plus
-		// petite que la premier lettre de la cle
-		while (child != null && child.charValue < firstChar) {
-			prev = child;
-			child = child.sibling;
+		if ((node.lengthMask & lengthRangeMask(infix.length - matched, Integer.SIZE)) == 0) {
+			// aucun mot assez long sous ce noeud pour finir le motif
+			return;
+		}
+		for (int i = 0; i < node.childCount(); i++) {
+			LetterNode child = node.child(i);
+			int next = matched;
+			while (next > 0 && infix[next] != child.code) {
+				next = failure[next - 1];
+			}
+			if (infix[next] == child.code) {
+				next++;
+			}
+			word.append(alphabet.letter(child.code));
+			getWordsContainingRecursive(child, infix, failure, next, word, words);
+			word.setLength(word.length() - 1);
 		}
-
-		insertData(node, firstChar, remainingKey, child, prev);
 	}
 
 	/**
-	 * this methode is a part of the insertRecursive 
+	 * Computes the failure table of the Knuth-Morris-Pratt algorithm.
 	 * 
-	 * @param node the currunt node
-	 * @param firstChar the current letter
-	 * @param remainingKey the other letter
-	 * @param child the current child 
-	 * @param prev 
+	 * @param pattern The codes of the letters of a pattern
+	 * @return For each prefix of the pattern, the length of its longest proper
+	 *         prefix that is also a suffix
 	 */
-	private void insertData(LetterNode node, char firstChar, String remainingKey, LetterNode child, LetterNode prev) {
-		if (child == null || child.charValue != firstChar) {
-
-			// creation de la nouvelle node
-			LetterNode newNode = new LetterNode(firstChar);
-			newNode.sibling = child;
+	private static int[] failureTable(int[] pattern) {
+		int[] failure = new int[pattern.length];
+		int length = 0;
+		for (int i = 1; i < pattern.length; i++) {
+			while (length > 0 && pattern[i] != pattern[length]) {
+				length = failure[length - 1];
+			}
+			if (pattern[i] == pattern[length]) {
+				length++;
+			}
+			failure[i] = length;
+		}
+		return failure;
+	}
 
-			if (prev != null) {
-				// ajout en tant que frere (le but ici est de faire une liste chainée sur les
-				// lettres qui se suive)
-				prev.sibling = newNode;
-			} else {
-				// ajout du lien sur la node parent
-				node.child = newNode;
+	/**
+	 * Recursively collects the words close enough to a word below the given node.
+	 * The row of the node is rows[depth] ; the row of each child is computed from
+	 * it in rows[depth + 1]. A row only holds the cells of the diagonal band, from
+	 * depth - maxDistance to depth + maxDistance, plus the cell right after the
+	 * band ; cells greater than the maximal distance are stored as maxDistance + 1.
+	 * 
+	 * @param node        The current node being examined.
+	 * @param target      The codes of the letters of the word to approach, -1 for
+	 *                    a character the alphabet cannot map.
+	 * @param maxDistance The maximal edit distance.
+	 * @param rows        The distance rows along the path, reused between calls.
+	 * @param word        The letters leading to the node, restored before
+	 *                    returning.
+	 * @param words       The list of words found.
+	 */
+	private void getWordsWithinDistanceRecursive(LetterNode node, int[] target, int maxDistance, int[][] rows,
+			StringBuilder word, List<String> words) {
+		int depth = word.length();
+		int n = target.length;
+		int[] row = rows[depth];
+		if (node.isLeaf && Math.abs(n - depth) <= maxDistance && row[n] <= maxDistance) {
+			words.add(word.toString());
+		}
+		if (depth == rows.length - 1) {
+			// plus assez d'editions pour un mot plus long
+			return;
+		}
+		int[] nextRow = rows[depth + 1];
+		int from = Math.max(0, depth + 1 - maxDistance);
+		int to = Math.min(n, depth + 1 + maxDistance);
+		int lengths = lengthRangeMask(n - maxDistance - depth - 1, n + maxDistance - depth - 1);
+		for (int i = 0; i < node.childCount(); i++) {
+			LetterNode child = node.child(i);
+			if ((child.lengthMask & lengths) == 0) {
+				continue;
+			}
+			nextRow[0] = Math.min(depth + 1, maxDistance + 1);
+			if (from > 1) {
+				nextRow[from - 1] = maxDistance + 1;
+			}
+			int min = nextRow[from];
+			for (int j = Math.max(1, from); j <= to; j++) {
+				int replace = row[j - 1] + (target[j - 1] == child.code ? 0 : 1);
+				nextRow[j] = Math.min(Math.min(replace, Math.min(row[j], nextRow[j - 1]) + 1), maxDistance + 1);
+				min = Math.min(min, nextRow[j]);
+			}
+			if (to < n) {
+				nextRow[to + 1] = maxDistance + 1;
+			}
+			if (min <= maxDistance) {
+				word.append(alphabet.letter(child.code));
+				getWordsWithinDistanceRecursive(child, target, maxDistance, rows, word, words);
+				word.setLength(depth);
 			}
-			child = newNode;
 		}
+	}
 
-		insertRecursive(child, remainingKey);
+	/**
+	 * Computes the length of the longest word below a node. The length mask gives
+	 * it directly unless the node has words of 31 letters or more : then only the
+	 * children holding such words are visited.
+	 * 
+	 * @param node A node
+	 * @return The number of letters below the node of its longest word, -1 if it
+	 *         holds no word
+	 */
+	private static int longestWordLength(LetterNode node) {
+		int saturated = lengthBit(Integer.SIZE - 1);
+		if ((node.lengthMask & saturated) == 0) {
+			return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(node.lengthMask);
+		}
+		int longest = Integer.SIZE - 1;
+		for (int i = 0; i < node.childCount(); i++) {
+			LetterNode child = node.child(i);
+			if ((parentLengthMask(child.lengthMask) & saturated) != 0) {
+				longest = Math.max(longest, longestWordLength(child) + 1);
+			}
+		}
+		return longest;
 	}
 
+	/**
+	 * Returns the length mask bits of a range of lengths.
+	 * 
+	 * @param from The lowest length, may be negative
+	 * @param to   The highest length, may be 31 or more
+	 * @return The bits of the lengths, empty if 'to' is negative
+	 */
+	private static int lengthRangeMask(int from, int to) {
+		if (to < 0) {
+			return 0;
+		}
+		int upTo = to >= Integer.SIZE - 1 ? -1 : (lengthBit(to) << 1) - 1;
+		return from <= 0 ? upTo : upTo & -lengthBit(from);
+	}
 
 	/**
-	 * Recursively collects all words of a given length starting from the given node
-	 * and with the given prefix.
+	 * Recursively passes the words formed from the letters left below the given
+	 * node. A letter left is used rather than a joker when both fit.
 	 * 
-	 * @param node   The current node being examined.
-	 * @param prefix The prefix of the words.
-	 * @param length The length of the words to collect.
-	 * @param words  The list of words found.
+	 * @param node       The current node being examined.
+	 * @param counts     The number of each letter left, jokers in the last slot.
+	 * @param remaining  The total number of letters left.
+	 * @param allLetters True if words must use every letter.
+	 * @param word       The letters leading to the node.
+	 * @param depth      The number of letters leading to the node.
+	 * @param action     The action receiving the words.
 	 */
-	private void getWordsOfLengthRecursive(LetterNode node, String prefix, int length, List<String> words) {
-		if (node == null) {
+	private void forEachAnagramRecursive(LetterNode node, int[] counts, int remaining, boolean allLetters, char[] word,
+			int depth, Consumer<String> action) {
+		int lengths = allLetters ? lengthBit(remaining) : lengthRangeMask(0, remaining);
+		if ((node.lengthMask & lengths) == 0) {
 			return;
 		}
+		int joker = counts.length - 1;
+		int available = 0;
+		for (int code = 0; code < joker; code++) {
+			available |= counts[code] > 0 ? 1 << code : 0;
+		}
+		int jokers = counts[joker];
+		if (node.isLeaf && (!allLetters || remaining == 0)) {
+			action.accept(new String(word, 0, depth));
+		}
+		int letters = jokers > 0 ? node.childMask : node.childMask & available;
+		for (; letters != 0; letters &= letters - 1) {
+			int code = Integer.numberOfTrailingZeros(letters);
+			LetterNode child = node.getChild(code);
+			int used = counts[code] > 0 ? code : joker;
+			counts[used]--;
+			word[depth] = alphabet.letter(code);
+			forEachAnagramRecursive(child, counts, remaining - 1, allLetters, word, depth + 1, action);
+			counts[used]++;
+		}
+	}
 
-		if (length == 0 && node.isLeaf) {
-			words.add(prefix);
-		} else if (length > 0) {
-			for (LetterNode child = node.child; child != null; child = child.sibling) {
-				getWordsOfLengthRecursive(child, prefix + child.charValue, length - 1, words);
-			}
+	/**
+	 * Recomputes the length mask and greatest weight of a node from its own word
+	 * and its children.
+	 * 
+	 * @param node A node whose children are up to date
+	 */
+	private void updateSummaries(LetterNode node) {
+		int lengths = node.isLeaf ? lengthBit(0) : 0;
+		for (int i = 0; i < node.childCount(); i++) {
+			lengths |= parentLengthMask(node.child(i).lengthMask);
 		}
+		node.lengthMask = lengths;
+		if (weights != null) {
+			putWeight(node, weight(node), maxWeightOf(node));
+		}
+	}
+
+	/**
+	 * Computes the greatest weight of the words ending at or below a node from
+	 * its own weight and the greatest weights of its children.
+	 * 
+	 * @param node A node
+	 * @return The greatest weight at or below the node
+	 */
+	private int maxWeightOf(LetterNode node) {
+		return Math.max(node.isLeaf ? weight(node) : 0, maxWeightBelow(node));
 	}
 
 	/**
-	 * Recursively searches for a word in the lexicographic tree.
+	 * Computes the greatest weight of the words ending strictly below a node.
 	 * 
-	 * @param node The current node being examined.
-	 * @param key  The remaining key to be searched.
-	 * @return True if the word is found, false otherwise.
+	 * @param node A node
+	 * @return The greatest weight of the children of the node
 	 */
-	private boolean searchRecursive(LetterNode node, String key) {
-		if (key.isEmpty()) {
-			return node.isLeaf;
+	private int maxWeightBelow(LetterNode node) {
+		int max = 0;
+		for (int i = 0; i < node.childCount(); i++) {
+			max = Math.max(max, maxWeight(node.child(i)));
 		}
+		return max;
+	}
+
+	/**
+	 * Returns the weight of the word ending at a node.
+	 * 
+	 * @param node A node
+	 * @return The weight of the word, 0 if the node has no weight
+	 */
+	private int weight(LetterNode node) {
+		NodeWeight weight = weights == null ? null : weights.get(node);
+		return weight == null ? 0 : weight.weight;
+	}
 
-		char firstChar = key.charAt(0);
-		String remainingKey = key.substring(1);
+	/**
+	 * Returns the greatest weight of the words ending at or below a node.
+	 * 
+	 * @param node A node
+	 * @return The greatest weight, 0 if the node has no weight
+	 */
+	private int maxWeight(LetterNode node) {
+		NodeWeight weight = weights == null ? null : weights.get(node);
+		return weight == null ? 0 : weight.maxWeight;
+	}
 
-		for (LetterNode child = node.child; child != null; child = child.sibling) {
-			if (child.charValue == firstChar) {
-				return searchRecursive(child, remainingKey);
-			} else if (child.charValue > firstChar) {
-				break;
-			}
+	/**
+	 * Stores the weights of a node, dropping them when all are 0.
+	 * 
+	 * @param node      A node
+	 * @param weight    The weight of the word ending at the node
+	 * @param maxWeight The greatest weight at or below the node
+	 */
+	private void putWeight(LetterNode node, int weight, int maxWeight) {
+		if (maxWeight == 0) {
+			weights.remove(node);
+		} else {
+			weights.computeIfAbsent(node, n -> new NodeWeight()).set(weight, maxWeight);
 		}
-		return false;
 	}
 
 	/**
-	 * Recursively calculates the size of the lexicographic tree.
+	 * Gives the weights of a subtree to its compacted copy.
 	 * 
-	 * @param node The current node being examined.
-	 * @return The size of the lexicographic tree.
+	 * @param node        A node of the tree
+	 * @param copy        The copy of the node
+	 * @param copyWeights The weights of the copies
 	 */
-	private int sizeRecursive(LetterNode node) {
-		if (node == null) {
-			return 0;
+	private void copyWeights(LetterNode node, LetterNode copy, Map<LetterNode, NodeWeight> copyWeights) {
+		NodeWeight weight = weights.get(node);
+		if (weight == null) {
+			// aucun poids dans ce sous-arbre
+			return;
 		}
+		copyWeights.put(copy, weight);
+		for (int i = 0; i < node.childCount(); i++) {
+			copyWeights(node.child(i), copy.child(i), copyWeights);
+		}
+	}
 
-		int size = node.isLeaf ? 1 : 0;
-		for (LetterNode child = node.child; child != null; child = child.sibling) {
-			size += sizeRecursive(child);
+	private static void checkWeight(int weight) {
+		if (weight < 0) {
+			throw new IllegalArgumentException("negative weight : " + weight);
 		}
+	}
+
+	/**
+	 * Returns the bit of a length in the length mask of a node. Lengths of 31 or
+	 * more share the last bit.
+	 * 
+	 * @param length A length
+	 * @return The corresponding bit
+	 */
+	private static int lengthBit(int length) {
+		return 1 << Math.min(length, Integer.SIZE - 1);
+	}
+
+	/**
+	 * Returns the lengths a child's words give to its parent : every length is one
+	 * letter longer.
+	 * 
+	 * @param mask The length mask of a child
+	 * @return The lengths contributed to the parent's mask
+	 */
+	private static int parentLengthMask(int mask) {
+		return (mask << 1) | (mask & lengthBit(Integer.SIZE - 1));
+	}
 
-		return size;
+	/**
+	 * Determines if a word ends a given number of letters below a node.
+	 * 
+	 * @param node   A node
+	 * @param length The number of letters below the node
+	 * @return True if the subtree may hold a word of that length, false otherwise
+	 */
+	private static boolean hasWordOfLength(LetterNode node, int length) {
+		return (node.lengthMask & lengthBit(length)) != 0;
 	}
 
 	/*
@@ -355,6 +2590,15 @@ public class LexicographicTree {
 		System.out.println("Number of words : " + dico.size());
 		System.out.println();
 
+		// Create tree from list of words, one fork-join task per first letter
+		startTime = System.currentTimeMillis();
+		System.out.println("Loading dictionary in parallel...");
+		for (int i = 0; i < repeatCount; i++) {
+			dico = loadParallel(filename);
+		}
+		System.out.println("Load time : " + (System.currentTimeMillis() - startTime) / 1000.0);
+		System.out.println();
+
 		// Search existing words in dictionary
 		startTime = System.currentTimeMillis();
 		System.out.println("Searching existing words in dictionary...");
@@ -400,6 +2644,25 @@ public class LexicographicTree {
 		System.out.println("Search time : " + (System.currentTimeMillis() - startTime) / 1000.0);
 		System.out.println();
 
+		// Search non-existing words behind a Bloom filter
+		dico.enableBloomFilter(0.01);
+		startTime = System.currentTimeMillis();
+		System.out.println("Searching non-existing words with a Bloom filter...");
+		for (int i = 0; i < repeatCount; i++) {
+			try (Scanner input = new Scanner(file)) {
+				while (input.hasNextLine()) {
+					String word = input.nextLine() + "xx";
+					if (dico.containsWord(word)) {
+						System.out.println(word + " / " + word.length() + " -> true");
+					}
+				}
+			}
+		}
+		System.out.println("Search time : " + (System.currentTimeMillis() - startTime) / 1000.0);
+		System.out.println(dico.bloomFilter());
+		dico.disableBloomFilter();
+		System.out.println();
+
 		// Search words of increasing length in dictionary
 		startTime = System.currentTimeMillis();
 		System.out.println("Searching for words of increasing length...");
@@ -415,6 +2678,99 @@ public class LexicographicTree {
 		}
 		System.out.println("Search time : " + (System.currentTimeMillis() - startTime) / 1000.0);
 		System.out.println();
+
+		// Search words close to existing words
+		List<String> samples = dico.getWordsOfLength(8);
+		startTime = System.currentTimeMillis();
+		System.out.println("Searching for words within edit distance 2...");
+		int queries = 0;
+		for (int i = 0; i < samples.size(); i += 97) {
+			dico.getWordsWithinDistance(samples.get(i), 2);
+			queries++;
+		}
+		System.out.println("Search time per word : "
+				+ (System.currentTimeMillis() - startTime) / 1000.0 / Math.max(1, queries));
+		System.out.println();
+	}
+
+	private static void testAutocomplete(String filename, String corpus) throws IOException {
+		LexicographicTree dico = new LexicographicTree(filename);
+
+		// poids des mots : nombre d'occurrences dans le texte
+		String text = Normalizer.normalize(new String(Files.readAllBytes(Paths.get(corpus)), StandardCharsets.UTF_8),
+				Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase();
+		for (String word : text.split("[^a-z-]+")) {
+			int weight = dico.getWeight(word);
+			if (weight >= 0) {
+				dico.setWeight(word, weight + 1);
+			}
+		}
+
+		long startTime = System.nanoTime();
+		System.out.println("Top 5 completions...");
+		for (String prefix : new String[] { "", "s", "ma", "pre", "cho" }) {
+			System.out.println("'" + prefix + "' -> " + dico.topK(prefix, 5));
+		}
+		System.out.println("Search time : " + (System.nanoTime() - startTime) / 1e9);
+		System.out.println();
+	}
+
+	private static void testSnapshotLoad(String filename) throws IOException {
+		String snapshot = File.createTempFile("dictionary", ".lxt").getPath();
+		new LexicographicTree(filename).save(snapshot);
+
+		long startTime = System.nanoTime();
+		System.out.println("Mapping dictionary snapshot...");
+		MappedLexicographicTree dico = new MappedLexicographicTree(snapshot);
+		System.out.println("Load time : " + (System.nanoTime() - startTime) / 1e9);
+		System.out.println("Number of words : " + dico.size());
+		System.out.println();
+		new File(snapshot).delete();
+	}
+
+	private static void testDictionaryMemory(String filename) {
+		final int repeatCount = 5;
+		System.out.println("Measuring dictionary memory...");
+
+		long before = usedMemory();
+		LexicographicTree[] trees = new LexicographicTree[repeatCount];
+		for (int i = 0; i < repeatCount; i++) {
+			trees[i] = new LexicographicTree(filename);
+		}
+		long objectBytes = (usedMemory() - before) / repeatCount;
+		int words = trees[0].size();
+		long loaded = usedMemory();
+		for (LexicographicTree tree : trees) {
+			tree.compact();
+		}
+		long compactBytes = objectBytes - (loaded - usedMemory()) / repeatCount;
+		trees = null;
+
+		before = usedMemory();
+		ArrayLexicographicTree[] arrayTrees = new ArrayLexicographicTree[repeatCount];
+		for (int i = 0; i < repeatCount; i++) {
+			arrayTrees[i] = new ArrayLexicographicTree(filename);
+		}
+		long arrayBytes = (usedMemory() - before) / repeatCount;
+
+		System.out.printf("LetterNode graph : %d bytes (%.1f bytes per word)\n", objectBytes,
+				(double) objectBytes / words);
+		System.out.printf("Compacted graph  : %d bytes (%.1f bytes per word)\n", compactBytes,
+				(double) compactBytes / words);
+		System.out.printf("Primitive arrays : %d bytes (%.1f bytes per word, %d nodes, %d bytes allocated)\n",
+				arrayBytes, (double) arrayBytes / words, arrayTrees[0].nodeCount(), arrayTrees[0].memoryUsage());
+		Dawg dawg = new Dawg(filename);
+		System.out.printf("Minimized DAWG   : %d bytes (%.1f bytes per word, %d states, %d edges)\n",
+				dawg.memoryUsage(), (double) dawg.memoryUsage() / words, dawg.stateCount(), dawg.edgeCount());
+		System.out.println();
+	}
+
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
 	}
 
 	private static void testDictionarySize() {
@@ -433,6 +2789,23 @@ public class LexicographicTree {
 		}
 	}
 
+	private static void testOffHeapDictionarySize(long words) {
+		final int MB = 1024 * 1024;
+		try (OffHeapLexicographicTree dico = new OffHeapLexicographicTree()) {
+			long startTime = System.currentTimeMillis();
+			for (long count = 0; count < words; count++) {
+				dico.insertWord(numberToWordBreadthFirst(count));
+				if ((count + 1) % (16 * MB) == 0) {
+					// le tas ne grossit pas : seuls les tampons natifs augmentent
+					System.out.println((count + 1) / MB + "M -> heap " + usedMemory() / MB + " MB, off-heap "
+							+ dico.memoryUsage() / MB + " MB");
+				}
+			}
+			System.out.println("Off-heap tree : " + dico.wordCount() + " words, " + dico.nodeCount() + " nodes in "
+					+ (System.currentTimeMillis() - startTime) + " ms");
+		}
+	}
+
 	/*
 	 * MAIN PROGRAM
 	 */
@@ -447,6 +2820,18 @@ public class LexicographicTree {
 		// CTT : test de performance insertion/recherche
 		testDictionaryPerformance("mots/dictionnaire_FR_sans_accents.txt");
 
+		// CAC : autocompletion ponderee par les occurrences d'un texte
+		testAutocomplete("mots/dictionnaire_FR_sans_accents.txt", "txt/Plus fort que Sherlock Holmes.txt");
+
+		// CSN : chargement d'un snapshot binaire
+		testSnapshotLoad("mots/dictionnaire_FR_sans_accents.txt");
+
+		// CMT : comparaison memoire noeuds objets / tableaux primitifs
+		testDictionaryMemory("mots/dictionnaire_FR_sans_accents.txt");
+
+		// COH : arbre hors tas, memes mots que CST
+		testOffHeapDictionarySize(64L * 1024 * 1024);
+
 		// CST : test de taille maximale si VM -Xms2048m -Xmx2048m
 		testDictionarySize();
 	}
@@ -0,0 +1,52 @@
+package tree;
+
+import java.util.List;
+
+/**
+ * Read-only view of a set of words, shared by the different storage engines of
+ * the lexicographic tree.
+ */
+public interface Lexicon {
+
+	/**
+	 * Returns the number of words present in the lexicon.
+	 *
+	 * @return The number of words present in the lexicon
+	 */
+	int size();
+
+	/**
+	 * Determines if a word is present in the lexicon.
+	 *
+	 * @param word A word
+	 * @return True if the word is present, false otherwise
+	 */
+	boolean containsWord(String word);
+
+	/**
+	 * Returns an alphabetic list of all words starting with the supplied prefix. If
+	 * 'prefix' is an empty string, all words are returned.
+	 *
+	 * @param prefix Expected prefix
+	 * @return The list of words starting with the supplied prefix
+	 */
+	List<String> getWords(String prefix);
+
+	/**
+	 * Returns an alphabetic list of all words of a given length. If 'length' is
+	 * lower than or equal to zero, an empty list is returned.
+	 *
+	 * @param length Expected word length
+	 * @return The list of words with the given length
+	 */
+	List<String> getWordsOfLength(int length);
+
+	/**
+	 * Checks if a prefix or word exists in the lexicon.
+	 *
+	 * @param prefix The prefix or word to check.
+	 * @return -1 if the prefix is not found, 0 if the prefix is found but is not a
+	 *         complete word, 1 if the prefix is found and is a complete word.
+	 */
+	int hasPrefixOrWord(String prefix);
+}
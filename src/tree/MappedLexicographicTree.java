@@ -0,0 +1,354 @@
+package tree;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Read-only dictionary answering queries directly from a memory-mapped binary
+ * snapshot, written by {@link LexicographicTree#save(String)} or
+ * {@link Dawg#save(String)}. Opening a snapshot does not parse any word : the
+ * file is mapped and the states are read in place.
+ *
+ * <p>
+ * Snapshot layout (big-endian) :
+ * <ul>
+ * <li>header : magic, version, word count, state count, edge count, alphabet
+ * flags (1 : case folding, 2 : accent stripping), letter count ;</li>
+ * <li>letters of the {@link Alphabet} (char per letter), padded to 4 bytes ;
+ * none for a word graph, which stores the characters of the words as they
+ * are ;</li>
+ * <li>first edge of each state, plus a final entry (int per state) ;</li>
+ * <li>final state bitset, padded to 4 bytes ;</li>
+ * <li>edge letters (char per edge), padded to 4 bytes ;</li>
+ * <li>edge targets (int per edge).</li>
+ * </ul>
+ * The edges of a state are contiguous and sorted by letter, state 0 is the
+ * root. The characters of a query are mapped by the alphabet of the snapshot,
+ * as in the tree it was saved from.
+ */
+public class MappedLexicographicTree implements Lexicon {
+
+	static final int MAGIC = 0x4C585431; // "LXT1"
+	static final int VERSION = 2;
+	private static final int HEADER_SIZE = 7 * Integer.BYTES;
+	private static final int CASE_FOLDING = 1;
+	private static final int ACCENT_STRIPPING = 2;
+	private static final int NONE = -1;
+	private static final int ROOT = 0;
+
+	private final MappedByteBuffer buffer;
+	/** Alphabet of the snapshot, null if the characters are stored as they are. */
+	private final Alphabet alphabet;
+	private final int wordCount;
+	private final int firstEdgeOffset;
+	private final int finalOffset;
+	private final int labelOffset;
+	private final int targetOffset;
+
+	/*
+	 * CONSTRUCTORS
+	 */
+
+	/**
+	 * Constructor : maps a dictionary snapshot written with a given alphabet.
+	 *
+	 * @param filename A snapshot file
+	 * @param alphabet The alphabet the snapshot must have been written with
+	 * @throws IOException if the file cannot be read, is not a snapshot or was
+	 *                     written with another alphabet
+	 */
+	public MappedLexicographicTree(String filename, Alphabet alphabet) throws IOException {
+		this(filename);
+		if (!Objects.requireNonNull(alphabet).equals(this.alphabet)) {
+			throw new IOException("snapshot written with " + (this.alphabet == null ? "raw characters" : this.alphabet)
+					+ " instead of " + alphabet + " : " + filename);
+		}
+	}
+
+	/**
+	 * Constructor : maps a dictionary snapshot, with the alphabet recorded in it.
+	 *
+	 * @param filename A snapshot file
+	 * @throws IOException if the file cannot be read or is not a snapshot
+	 */
+	public MappedLexicographicTree(String filename) throws IOException {
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("not a dictionary snapshot : " + filename);
+		}
+		if (buffer.getInt(4) != VERSION) {
+			throw new IOException("unsupported snapshot version " + buffer.getInt(4) + " : " + filename);
+		}
+		wordCount = buffer.getInt(8);
+		int stateCount = buffer.getInt(12);
+		int edgeCount = buffer.getInt(16);
+		int flags = buffer.getInt(20);
+		int letterCount = buffer.getInt(24);
+		if (letterCount < 0 || letterCount > Alphabet.MAX_SIZE
+				|| buffer.capacity() < HEADER_SIZE + letterCount * Character.BYTES) {
+			throw new IOException("corrupted dictionary snapshot : " + filename);
+		}
+		alphabet = letterCount == 0 ? null : readAlphabet(letterCount, flags, filename);
+		firstEdgeOffset = HEADER_SIZE + align(letterCount * Character.BYTES);
+		finalOffset = firstEdgeOffset + (stateCount + 1) * Integer.BYTES;
+		labelOffset = finalOffset + align((stateCount + 7) / 8);
+		targetOffset = labelOffset + align(edgeCount * Character.BYTES);
+		if (buffer.capacity() != targetOffset + edgeCount * Integer.BYTES) {
+			throw new IOException("truncated dictionary snapshot : " + filename);
+		}
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	@Override
+	public int size() {
+		return wordCount;
+	}
+
+	/**
+	 * Returns the alphabet the snapshot was written with.
+	 *
+	 * @return The alphabet, or null for a snapshot of a {@link Dawg}, which stores
+	 *         the characters of the words as they are
+	 */
+	public Alphabet alphabet() {
+		return alphabet;
+	}
+
+	@Override
+	public boolean containsWord(String word) {
+		if (word == null || word.isEmpty()) {
+			return false;
+		}
+		int state = getStateForPrefix(word);
+		return state != NONE && isFinal(state);
+	}
+
+	@Override
+	public List<String> getWords(String prefix) {
+		List<String> words = new ArrayList<>();
+		int state = getStateForPrefix(prefix);
+		if (state != NONE) {
+			collectWords(state, new StringBuilder(alphabet == null ? prefix : alphabet.normalize(prefix)), words, -1);
+		}
+		return words;
+	}
+
+	@Override
+	public List<String> getWordsOfLength(int length) {
+		List<String> words = new ArrayList<>();
+		if (length >= 0) {
+			collectWords(ROOT, new StringBuilder(), words, length);
+		}
+		return words;
+	}
+
+	@Override
+	public int hasPrefixOrWord(String prefix) {
+		int state = getStateForPrefix(prefix);
+		if (state == NONE) {
+			return -1;
+		}
+		return isFinal(state) ? 1 : 0;
+	}
+
+	/*
+	 * PACKAGE METHODS
+	 */
+
+	/**
+	 * Writes a snapshot file from the flat representation of a tree or a word
+	 * graph.
+	 *
+	 * @param filename  The snapshot file, replaced if it exists
+	 * @param alphabet  The alphabet of the labels, null if they are the
+	 *                  characters of the words as they are
+	 * @param wordCount The number of words
+	 * @param firstEdge The first edge of each state, plus a final entry
+	 * @param isFinal   The final flag of each state
+	 * @param labels    The letter of each edge
+	 * @param targets   The target state of each edge
+	 * @throws IOException if the file cannot be written
+	 */
+	static void write(String filename, Alphabet alphabet, int wordCount, int[] firstEdge, boolean[] isFinal,
+			char[] labels, int[] targets) throws IOException {
+		Path path = Paths.get(filename);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(wordCount);
+			out.writeInt(isFinal.length);
+			out.writeInt(labels.length);
+			String letters = "";
+			int flags = 0;
+			if (alphabet != null) {
+				letters = alphabet.letters();
+				flags = (alphabet.isCaseFolding() ? CASE_FOLDING : 0)
+						| (alphabet.isAccentStripping() ? ACCENT_STRIPPING : 0);
+			}
+			out.writeInt(flags);
+			out.writeInt(letters.length());
+			out.writeChars(letters);
+			for (int i = letters.length() * Character.BYTES; i < align(letters.length() * Character.BYTES); i++) {
+				out.writeByte(0);
+			}
+			for (int edge : firstEdge) {
+				out.writeInt(edge);
+			}
+			byte[] bits = new byte[align((isFinal.length + 7) / 8)];
+			for (int s = 0; s < isFinal.length; s++) {
+				if (isFinal[s]) {
+					bits[s >>> 3] |= 1 << (s & 7);
+				}
+			}
+			out.write(bits);
+			for (char label : labels) {
+				out.writeChar(label);
+			}
+			for (int i = labels.length * Character.BYTES; i < align(labels.length * Character.BYTES); i++) {
+				out.writeByte(0);
+			}
+			for (int target : targets) {
+				out.writeInt(target);
+			}
+		}
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private static int align(int bytes) {
+		return (bytes + 3) & ~3;
+	}
+
+	/**
+	 * Rebuilds the alphabet recorded in the header.
+	 *
+	 * @param letterCount The number of letters
+	 * @param flags       The case folding and accent stripping flags
+	 * @param filename    The snapshot file, for the error message
+	 * @return The alphabet
+	 * @throws IOException if the letters do not form an alphabet
+	 */
+	private Alphabet readAlphabet(int letterCount, int flags, String filename) throws IOException {
+		char[] letters = new char[letterCount];
+		for (int i = 0; i < letterCount; i++) {
+			letters[i] = buffer.getChar(HEADER_SIZE + i * Character.BYTES);
+		}
+		Alphabet result;
+		try {
+			result = Alphabet.of(new String(letters));
+		} catch (IllegalArgumentException e) {
+			throw new IOException("corrupted dictionary snapshot : " + filename, e);
+		}
+		if ((flags & CASE_FOLDING) != 0) {
+			result = result.withCaseFolding();
+		}
+		if ((flags & ACCENT_STRIPPING) != 0) {
+			result = result.withAccentStripping();
+		}
+		return result;
+	}
+
+	private boolean isFinal(int state) {
+		return (buffer.get(finalOffset + (state >>> 3)) & (1 << (state & 7))) != 0;
+	}
+
+	private int firstEdge(int state) {
+		return buffer.getInt(firstEdgeOffset + state * Integer.BYTES);
+	}
+
+	private char label(int edge) {
+		return buffer.getChar(labelOffset + edge * Character.BYTES);
+	}
+
+	private int target(int edge) {
+		return buffer.getInt(targetOffset + edge * Integer.BYTES);
+	}
+
+	/**
+	 * Walks the snapshot along the given prefix.
+	 *
+	 * @param prefix The prefix to search for.
+	 * @return The state reached, or NONE if the prefix is not found.
+	 */
+	private int getStateForPrefix(String prefix) {
+		int state = ROOT;
+		for (int i = 0; i < prefix.length() && state != NONE; i++) {
+			char c = prefix.charAt(i);
+			if (alphabet != null) {
+				int code = alphabet.code(c);
+				if (code < 0) {
+					return NONE;
+				}
+				c = alphabet.letter(code);
+			}
+			state = findEdgeTarget(state, c);
+		}
+		return state;
+	}
+
+	/**
+	 * Finds the state reached from a state with the given letter, by binary search
+	 * in its sorted edges.
+	 *
+	 * @param state The source state
+	 * @param c     The letter of the edge
+	 * @return The target state, or NONE if there is no such edge.
+	 */
+	private int findEdgeTarget(int state, char c) {
+		int low = firstEdge(state);
+		int high = firstEdge(state + 1) - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			char value = label(mid);
+			if (value < c) {
+				low = mid + 1;
+			} else if (value > c) {
+				high = mid - 1;
+			} else {
+				return target(mid);
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Collects the words readable from a state, all of them or only those of a
+	 * given length.
+	 *
+	 * @param state  The current state.
+	 * @param word   The letters leading to the state, restored before returning.
+	 * @param words  The list of words found.
+	 * @param length The expected word length, or -1 for every length.
+	 */
+	private void collectWords(int state, StringBuilder word, List<String> words, int length) {
+		if (isFinal(state) && (length < 0 || word.length() == length)) {
+			words.add(word.toString());
+		}
+		if (length >= 0 && word.length() >= length) {
+			return;
+		}
+		int end = firstEdge(state + 1);
+		for (int e = firstEdge(state); e < end; e++) {
+			word.append(label(e));
+			collectWords(target(e), word, words, length);
+			word.setLength(word.length() - 1);
+		}
+	}
+}
@@ -0,0 +1,377 @@
+package tree;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Lexicographic tree storing its nodes outside the Java heap, in direct byte
+ * buffers. The garbage collector only sees one small buffer object per chunk,
+ * whatever the number of nodes, so a very large dictionary neither fills the
+ * heap nor lengthens the collections.
+ *
+ * <p>
+ * A node is a long index into chunks of 2^20 nodes. Its record holds its
+ * first child and next sibling (8 bytes each), the code of its letter in the
+ * {@link Alphabet} of the tree and its leaf flag (1 byte each), padded to 24
+ * bytes so that the links of every record are 8-byte aligned. The children
+ * of a node form a list sorted by code, as in {@link ArrayLexicographicTree}.
+ * The first chunk starts small and doubles until it is full-size, so a small
+ * tree only holds a few kilobytes.
+ *
+ * <p>
+ * {@link #close()} releases the chunks and the tree cannot be used anymore.
+ * Their native memory is freed when the garbage collector collects the
+ * buffers, as for any direct buffer : Java 17 has no supported way to free it
+ * earlier. The tree is not thread-safe.
+ */
+public class OffHeapLexicographicTree implements Lexicon, AutoCloseable {
+
+	private static final int CHILD = 0;
+	private static final int SIBLING = 8;
+	private static final int CODE = 16;
+	private static final int LEAF = 17;
+	private static final int NODE_BYTES = 24;
+	private static final int CHUNK_BITS = 20;
+	private static final int CHUNK_NODES = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_NODES - 1;
+	/** Number of nodes of the first chunk when the tree is created. */
+	private static final int FIRST_CHUNK_NODES = 1 << 10;
+	private static final long NONE = -1;
+	private static final long ROOT = 0;
+	private final Alphabet alphabet;
+	private ByteBuffer[] chunks = new ByteBuffer[0];
+	private long nodeCount;
+	private long wordCount;
+
+	/*
+	 * CONSTRUCTORS
+	 */
+
+	/**
+	 * Constructor : creates an empty lexicographic tree storing the letters of
+	 * {@link Alphabet#FRENCH}.
+	 */
+	public OffHeapLexicographicTree() {
+		this(Alphabet.FRENCH);
+	}
+
+	/**
+	 * Constructor : creates an empty lexicographic tree.
+	 *
+	 * @param alphabet The letters the tree can store
+	 */
+	public OffHeapLexicographicTree(Alphabet alphabet) {
+		this.alphabet = Objects.requireNonNull(alphabet);
+		newNode(0);
+	}
+
+	/**
+	 * Constructor : creates a lexicographic tree populated with words
+	 *
+	 * @param filename A text file containing the words to be inserted in the tree
+	 */
+	public OffHeapLexicographicTree(String filename) {
+		this();
+		try {
+			for (String str : Files.readAllLines(Paths.get(filename))) {
+				insertWord(str);
+			}
+		} catch (IOException e) {
+			// same behaviour as LexicographicTree : an unreadable file gives an empty
+			// dictionary
+		}
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Returns the number of words, or Integer.MAX_VALUE if there are more : see
+	 * {@link #wordCount()}.
+	 */
+	@Override
+	public int size() {
+		return (int) Math.min(wordCount, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the number of words present in the tree.
+	 *
+	 * @return The number of words
+	 */
+	public long wordCount() {
+		return wordCount;
+	}
+
+	/**
+	 * Inserts a word in the lexicographic tree if not already present. Characters
+	 * that the alphabet of the tree cannot map are skipped, as in
+	 * {@link LexicographicTree#insertWord(String)}.
+	 *
+	 * @param word A word
+	 * @throws IllegalStateException if the tree is closed
+	 */
+	public void insertWord(String word) {
+		checkOpen();
+		if (word == null) {
+			return;
+		}
+		long node = ROOT;
+		for (int i = 0; i < word.length(); i++) {
+			int code = alphabet.code(word.charAt(i));
+			if (code >= 0) {
+				node = getOrCreateChild(node, code);
+			}
+		}
+		if (!isLeaf(node)) {
+			buffer(node).put(offset(node) + LEAF, (byte) 1);
+			wordCount++;
+		}
+	}
+
+	@Override
+	public boolean containsWord(String word) {
+		if (word == null || word.isEmpty()) {
+			return false;
+		}
+		long node = getNodeForPrefix(word);
+		return node != NONE && isLeaf(node);
+	}
+
+	@Override
+	public List<String> getWords(String prefix) {
+		List<String> words = new ArrayList<>();
+		long node = getNodeForPrefix(prefix);
+		if (node != NONE) {
+			collectWords(node, new StringBuilder(alphabet.normalize(prefix)), words, -1);
+		}
+		return words;
+	}
+
+	@Override
+	public List<String> getWordsOfLength(int length) {
+		List<String> words = new ArrayList<>();
+		if (length >= 0) {
+			checkOpen();
+			collectWords(ROOT, new StringBuilder(), words, length);
+		}
+		return words;
+	}
+
+	@Override
+	public int hasPrefixOrWord(String prefix) {
+		long node = getNodeForPrefix(prefix);
+		if (node == NONE) {
+			return -1;
+		}
+		return isLeaf(node) ? 1 : 0;
+	}
+
+	/**
+	 * Returns the number of nodes of the tree, root included.
+	 *
+	 * @return The number of nodes
+	 */
+	public long nodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Returns the number of bytes of native memory held by the chunks, including
+	 * the unused part of the last one.
+	 *
+	 * @return The memory used by the tree in bytes, 0 once closed
+	 */
+	public long memoryUsage() {
+		long bytes = 0;
+		if (chunks != null) {
+			for (ByteBuffer chunk : chunks) {
+				bytes += chunk.capacity();
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * Releases the chunks : their native memory is freed once the buffers are
+	 * collected. The tree is empty and unusable afterwards ; closing it again has
+	 * no effect.
+	 */
+	@Override
+	public void close() {
+		chunks = null;
+		nodeCount = 0;
+		wordCount = 0;
+	}
+
+	/*
+	 * PRIVATE METHODS
+	 */
+
+	private void checkOpen() {
+		if (chunks == null) {
+			throw new IllegalStateException("tree closed");
+		}
+	}
+
+	/**
+	 * Walks the tree along the given prefix.
+	 *
+	 * @param prefix The prefix to search for.
+	 * @return The index of the node corresponding to the prefix, or NONE if not
+	 *         found.
+	 */
+	private long getNodeForPrefix(String prefix) {
+		checkOpen();
+		long node = ROOT;
+		for (int i = 0; i < prefix.length() && node != NONE; i++) {
+			int code = alphabet.code(prefix.charAt(i));
+			node = code < 0 ? NONE : findChild(node, code);
+		}
+		return node;
+	}
+
+	/**
+	 * Finds the child of a node holding the letter of a code.
+	 *
+	 * @param node The parent node
+	 * @param code The code of the letter to find
+	 * @return The index of the child, or NONE if not found.
+	 */
+	private long findChild(long node, int code) {
+		for (long ch = child(node); ch != NONE; ch = sibling(ch)) {
+			int value = code(ch);
+			if (value == code) {
+				return ch;
+			} else if (value > code) {
+				break;
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Finds the child of a node holding the letter of a code, inserting it in the
+	 * sorted sibling list if missing.
+	 *
+	 * @param node The parent node
+	 * @param code The code of the letter to find
+	 * @return The index of the child
+	 */
+	private long getOrCreateChild(long node, int code) {
+		long prev = NONE;
+		long ch = child(node);
+		while (ch != NONE && code(ch) < code) {
+			prev = ch;
+			ch = sibling(ch);
+		}
+		if (ch != NONE && code(ch) == code) {
+			return ch;
+		}
+		long newNode = newNode(code);
+		setLink(newNode, SIBLING, ch);
+		if (prev != NONE) {
+			setLink(prev, SIBLING, newNode);
+		} else {
+			setLink(node, CHILD, newNode);
+		}
+		return newNode;
+	}
+
+	/**
+	 * Collects the words below a node, all of them or only those of a given
+	 * length.
+	 *
+	 * @param node   The current node being examined.
+	 * @param word   The letters leading to the node, restored before returning.
+	 * @param words  The list of words found.
+	 * @param length The expected word length, or -1 for every length.
+	 */
+	private void collectWords(long node, StringBuilder word, List<String> words, int length) {
+		if (isLeaf(node) && (length < 0 || word.length() == length)) {
+			words.add(word.toString());
+		}
+		if (length >= 0 && word.length() >= length) {
+			return;
+		}
+		for (long ch = child(node); ch != NONE; ch = sibling(ch)) {
+			word.append(alphabet.letter(code(ch)));
+			collectWords(ch, word, words, length);
+			word.setLength(word.length() - 1);
+		}
+	}
+
+	/**
+	 * Allocates a node, doubling the first chunk while it is smaller than the
+	 * others, and adding a chunk when the last one is full.
+	 *
+	 * @param code The code of the letter of the node
+	 * @return The index of the new node
+	 */
+	private long newNode(int code) {
+		long index = nodeCount;
+		int chunk = (int) (index >>> CHUNK_BITS);
+		int offset = offset(index);
+		if (chunk == chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunk + 1);
+			chunks[chunk] = allocate(chunk == 0 ? FIRST_CHUNK_NODES : CHUNK_NODES);
+		} else if (offset == chunks[chunk].capacity()) {
+			ByteBuffer old = chunks[chunk];
+			chunks[chunk] = allocate(2 * offset / NODE_BYTES);
+			chunks[chunk].put(old.duplicate().clear());
+		}
+		ByteBuffer buffer = chunks[chunk];
+		buffer.putLong(offset + CHILD, NONE);
+		buffer.putLong(offset + SIBLING, NONE);
+		buffer.put(offset + CODE, (byte) code);
+		buffer.put(offset + LEAF, (byte) 0);
+		nodeCount++;
+		return index;
+	}
+
+	/**
+	 * Allocates a chunk of native memory.
+	 *
+	 * @param nodes The number of nodes of the chunk
+	 * @return The chunk, in the byte order of the platform
+	 */
+	private static ByteBuffer allocate(int nodes) {
+		return ByteBuffer.allocateDirect(nodes * NODE_BYTES).order(ByteOrder.nativeOrder());
+	}
+
+	private ByteBuffer buffer(long node) {
+		return chunks[(int) (node >>> CHUNK_BITS)];
+	}
+
+	private static int offset(long node) {
+		return ((int) node & CHUNK_MASK) * NODE_BYTES;
+	}
+
+	private long child(long node) {
+		return buffer(node).getLong(offset(node) + CHILD);
+	}
+
+	private long sibling(long node) {
+		return buffer(node).getLong(offset(node) + SIBLING);
+	}
+
+	private void setLink(long node, int field, long value) {
+		buffer(node).putLong(offset(node) + field, value);
+	}
+
+	private int code(long node) {
+		return buffer(node).get(offset(node) + CODE);
+	}
+
+	private boolean isLeaf(long node) {
+		return buffer(node).get(offset(node) + LEAF) != 0;
+	}
+}
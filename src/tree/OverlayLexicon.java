@@ -0,0 +1,234 @@
+package tree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Mutable view of a shared dictionary : the words of a base tree, plus the
+ * words added through the view, minus the words removed through it. The base
+ * is never modified, so many views can share one large dictionary while each
+ * view only stores its own changes, in two small trees :
+ * <ul>
+ * <li>the added words, none of them in the base ;</li>
+ * <li>the removed words, all of them in the base.</li>
+ * </ul>
+ * Thanks to these two rules, the size and the prefix queries are answered from
+ * the word counts of the three trees, and the word lists by merging their
+ * sorted iterators.
+ *
+ * <p>
+ * The base must not be modified while views use it. A view is not
+ * thread-safe, but views of the same base can be used from different threads.
+ */
+public class OverlayLexicon implements Lexicon {
+
+	private final LexicographicTree base;
+	private final LexicographicTree added;
+	private final LexicographicTree removed;
+
+	/*
+	 * CONSTRUCTORS
+	 */
+
+	/**
+	 * Constructor : creates a view holding the words of a base tree.
+	 *
+	 * @param base The shared dictionary
+	 */
+	public OverlayLexicon(LexicographicTree base) {
+		this.base = Objects.requireNonNull(base);
+		this.added = new LexicographicTree(base.alphabet());
+		this.removed = new LexicographicTree(base.alphabet());
+	}
+
+	/*
+	 * PUBLIC METHODS
+	 */
+
+	/**
+	 * Returns the shared dictionary under the view.
+	 *
+	 * @return The base tree
+	 */
+	public LexicographicTree base() {
+		return base;
+	}
+
+	@Override
+	public int size() {
+		return base.size() - removed.size() + added.size();
+	}
+
+	/**
+	 * Inserts a word in the view if not already present : the word is taken out
+	 * of the removed words if the base has it, added otherwise. Characters that
+	 * the alphabet of the base cannot map are skipped, and the empty word is
+	 * ignored.
+	 *
+	 * @param word A word
+	 */
+	public void insertWord(String word) {
+		if (word == null) {
+			return;
+		}
+		String key = base.alphabet().normalize(word);
+		if (key.isEmpty() || containsWord(key) || removed.removeWord(key)) {
+			return;
+		}
+		added.insertWord(key);
+	}
+
+	/**
+	 * Removes a word from the view : the word is taken out of the added words, or
+	 * hidden if it comes from the base.
+	 *
+	 * @param word A word
+	 * @return True if the word was present, false otherwise
+	 */
+	public boolean removeWord(String word) {
+		if (!containsWord(word)) {
+			return false;
+		}
+		if (!added.removeWord(word)) {
+			removed.insertWord(word);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of words the view adds to the base.
+	 *
+	 * @return The number of added words
+	 */
+	public int addedCount() {
+		return added.size();
+	}
+
+	/**
+	 * Returns the number of words of the base the view hides.
+	 *
+	 * @return The number of removed words
+	 */
+	public int removedCount() {
+		return removed.size();
+	}
+
+	@Override
+	public boolean containsWord(String word) {
+		return added.containsWord(word) || base.containsWord(word) && !removed.containsWord(word);
+	}
+
+	@Override
+	public List<String> getWords(String prefix) {
+		List<String> words = new ArrayList<>();
+		wordIterator(prefix).forEachRemaining(words::add);
+		return words;
+	}
+
+	/**
+	 * Returns an iterator over the words of the view starting with the supplied
+	 * prefix, in alphabetic order, merging the iterators of the three trees.
+	 *
+	 * @param prefix Expected prefix
+	 * @return An iterator over the words starting with the supplied prefix
+	 */
+	public Iterator<String> wordIterator(String prefix) {
+		return new OverlayIterator(base.wordIterator(prefix), removed.wordIterator(prefix),
+				added.wordIterator(prefix));
+	}
+
+	@Override
+	public List<String> getWordsOfLength(int length) {
+		List<String> words = new ArrayList<>();
+		new OverlayIterator(base.getWordsOfLength(length).iterator(), removed.getWordsOfLength(length).iterator(),
+				added.getWordsOfLength(length).iterator()).forEachRemaining(words::add);
+		return words;
+	}
+
+	@Override
+	public int hasPrefixOrWord(String prefix) {
+		if (containsWord(prefix)) {
+			return 1;
+		}
+		// le prefixe vide est toujours trouve, comme dans l'arbre ; sinon, les mots
+		// retires etant tous dans la base, il reste un mot de la base sous le prefixe
+		// si elle en a plus que de retires
+		if (prefix.isEmpty() || added.countWithPrefix(prefix) > 0
+				|| base.countWithPrefix(prefix) > removed.countWithPrefix(prefix)) {
+			return 0;
+		}
+		return -1;
+	}
+
+	/*
+	 * PRIVATE CLASSES
+	 */
+
+	/**
+	 * Sorted iterator over the words of the base not removed, merged with the
+	 * added words. Each source is sorted and the added words are never in the
+	 * base, so each word comes once.
+	 */
+	private static final class OverlayIterator implements Iterator<String> {
+		private final Iterator<String> base;
+		private final Iterator<String> removed;
+		private final Iterator<String> added;
+		private String nextRemoved;
+		private String nextBase;
+		private String nextAdded;
+
+		OverlayIterator(Iterator<String> base, Iterator<String> removed, Iterator<String> added) {
+			this.base = base;
+			this.removed = removed;
+			this.added = added;
+			nextRemoved = next(removed);
+			nextBase = nextVisible();
+			nextAdded = next(added);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextBase != null || nextAdded != null;
+		}
+
+		@Override
+		public String next() {
+			String word;
+			if (nextAdded == null || nextBase != null && nextBase.compareTo(nextAdded) < 0) {
+				if (nextBase == null) {
+					throw new NoSuchElementException();
+				}
+				word = nextBase;
+				nextBase = nextVisible();
+			} else {
+				word = nextAdded;
+				nextAdded = next(added);
+			}
+			return word;
+		}
+
+		/**
+		 * Returns the next word of the base that is not removed.
+		 *
+		 * @return The word, or null at the end of the base
+		 */
+		private String nextVisible() {
+			for (String word = next(base); word != null; word = next(base)) {
+				while (nextRemoved != null && nextRemoved.compareTo(word) < 0) {
+					nextRemoved = next(removed);
+				}
+				if (!word.equals(nextRemoved)) {
+					return word;
+				}
+			}
+			return null;
+		}
+
+		private static String next(Iterator<String> iterator) {
+			return iterator.hasNext() ? iterator.next() : null;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package tree;
+
+/**
+ * Compiled word pattern, matched letter by letter while walking the tree.
+ *
+ * <p>
+ * Syntax :
+ * <ul>
+ * <li>a letter matches itself ;</li>
+ * <li>'?' matches any single letter ;</li>
+ * <li>"[abc]" matches one of the listed letters, "[^abc]" any other letter
+ * ;</li>
+ * <li>'*' matches any sequence of letters, possibly empty.</li>
+ * </ul>
+ * The positions of the pattern are the states of a small automaton. The
+ * active states are kept in a long, so a pattern has at most 63 positions.
+ */
+final class WordPattern {
+
+	/** Letters accepted at each position, as a bitmap of letter codes. */
+	private final int[] masks;
+	/** Positions holding a '*'. */
+	private final long stars;
+	/** Letters accepted by at least one position. */
+	private final int anyMask;
+
+	private WordPattern(int[] masks, long stars) {
+		this.masks = masks;
+		this.stars = stars;
+		int any = 0;
+		for (int mask : masks) {
+			any |= mask;
+		}
+		this.anyMask = any;
+	}
+
+	/**
+	 * Compiles a pattern.
+	 *
+	 * @param pattern  The pattern, see the class description for its syntax
+	 * @param alphabet The alphabet mapping the letters of the pattern to codes
+	 * @return The compiled pattern
+	 * @throws IllegalArgumentException if the pattern is malformed
+	 */
+	static WordPattern compile(String pattern, Alphabet alphabet) {
+		if (pattern == null) {
+			throw new IllegalArgumentException("pattern is null");
+		}
+		int allLetters = (int) ((1L << alphabet.size()) - 1);
+		int[] masks = new int[pattern.length()];
+		long stars = 0;
+		int count = 0;
+		for (int i = 0; i < pattern.length(); i++) {
+			if (count == Long.SIZE - 1) {
+				throw new IllegalArgumentException("pattern too long : " + pattern);
+			}
+			char c = pattern.charAt(i);
+			if (c == '?') {
+				masks[count] = allLetters;
+			} else if (c == '*') {
+				masks[count] = allLetters;
+				stars |= 1L << count;
+			} else if (c == '[') {
+				int end = pattern.indexOf(']', i + 1);
+				if (end < 0) {
+					throw new IllegalArgumentException("unclosed letter set : " + pattern);
+				}
+				boolean negated = end > i + 1 && pattern.charAt(i + 1) == '^';
+				int mask = 0;
+				for (int j = negated ? i + 2 : i + 1; j < end; j++) {
+					mask |= letterBit(pattern, pattern.charAt(j), alphabet);
+				}
+				masks[count] = negated ? allLetters & ~mask : mask;
+				i = end;
+			} else {
+				masks[count] = letterBit(pattern, c, alphabet);
+			}
+			count++;
+		}
+		int[] trimmed = new int[count];
+		System.arraycopy(masks, 0, trimmed, 0, count);
+		return new WordPattern(trimmed, stars);
+	}
+
+	/**
+	 * Returns the states active before reading any letter.
+	 *
+	 * @return The initial states
+	 */
+	long start() {
+		return closure(1L);
+	}
+
+	/**
+	 * Returns the states reached by reading a letter.
+	 *
+	 * @param states The active states
+	 * @param code   The code of the letter read
+	 * @return The new active states, 0 if the letter cannot match
+	 */
+	long step(long states, int code) {
+		long next = 0;
+		int bit = 1 << code;
+		for (long s = states; s != 0; s &= s - 1) {
+			int position = Long.numberOfTrailingZeros(s);
+			if (position < masks.length && (masks[position] & bit) != 0) {
+				next |= (stars & (1L << position)) != 0 ? 1L << position : 1L << (position + 1);
+			}
+		}
+		return closure(next);
+	}
+
+	/**
+	 * Determines if the active states accept the letters read so far.
+	 *
+	 * @param states The active states
+	 * @return True if the final state is active, false otherwise
+	 */
+	boolean accepts(long states) {
+		return (states & (1L << masks.length)) != 0;
+	}
+
+	/**
+	 * Returns the letters that can be read next, as a bitmap of letter codes.
+	 *
+	 * @param states The active states
+	 * @return The letters accepted by at least one active position
+	 */
+	int nextLetters(long states) {
+		int letters = 0;
+		for (long s = states; s != 0 && letters != anyMask; s &= s - 1) {
+			int position = Long.numberOfTrailingZeros(s);
+			if (position < masks.length) {
+				letters |= masks[position];
+			}
+		}
+		return letters;
+	}
+
+	/**
+	 * Returns the exact length of the matching words.
+	 *
+	 * @return The number of positions, or -1 if the pattern holds a '*'
+	 */
+	int fixedLength() {
+		return stars == 0 ? masks.length : -1;
+	}
+
+	/**
+	 * Adds the states reached by skipping '*' positions, which may match nothing.
+	 *
+	 * @param states Some states
+	 * @return The states and those reachable without reading a letter
+	 */
+	private long closure(long states) {
+		long result = states;
+		for (int position = 0; position < masks.length; position++) {
+			if ((result & (1L << position)) != 0 && (stars & (1L << position)) != 0) {
+				result |= 1L << (position + 1);
+			}
+		}
+		return result;
+	}
+
+	private static int letterBit(String pattern, char c, Alphabet alphabet) {
+		int code = alphabet.code(c);
+		if (code < 0) {
+			throw new IllegalArgumentException("invalid letter '" + c + "' in pattern : " + pattern);
+		}
+		return 1 << code;
+	}
+}
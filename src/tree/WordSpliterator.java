@@ -0,0 +1,200 @@
+package tree;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazy, alphabetic traversal of the words of one or several subtrees. Words are
+ * built in a reused char buffer and a String is created only for the word being
+ * returned. Splitting hands out whole subtrees : a single subtree is first
+ * replaced by its own word and its children.
+ *
+ * <p>
+ * The tree must not be modified during the traversal.
+ */
+final class WordSpliterator implements Spliterator<String> {
+
+	private static final int CHARACTERISTICS = ORDERED | SORTED | DISTINCT | NONNULL | SIZED | SUBSIZED;
+
+	private final Alphabet alphabet;
+	/** Subtrees still to traverse, a null node standing for its prefix alone. */
+	private LetterNode[] nodes;
+	private String[] prefixes;
+	private int lo;
+	private int hi;
+	/** Number of words not returned yet, known from the word counts of the nodes. */
+	private long remaining;
+
+	/** Traversal of the current subtree : node and next child index at each depth. */
+	private LetterNode[] parents = new LetterNode[16];
+	private int[] next = new int[16];
+	private char[] buffer = new char[32];
+	private int base;
+	private int depth = -1;
+
+	/**
+	 * Constructor : traverses the words of a subtree.
+	 *
+	 * @param node     The root of the subtree
+	 * @param prefix   The letters leading to the root of the subtree
+	 * @param alphabet The alphabet of the tree
+	 */
+	WordSpliterator(LetterNode node, String prefix, Alphabet alphabet) {
+		this(alphabet, new LetterNode[] { node }, new String[] { prefix }, 0, 1, node.wordCount);
+	}
+
+	private WordSpliterator(Alphabet alphabet, LetterNode[] nodes, String[] prefixes, int lo, int hi,
+			long remaining) {
+		this.alphabet = alphabet;
+		this.nodes = nodes;
+		this.prefixes = prefixes;
+		this.lo = lo;
+		this.hi = hi;
+		this.remaining = remaining;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super String> action) {
+		while (true) {
+			if (depth >= 0) {
+				String word = advanceInSubtree();
+				if (word != null) {
+					remaining--;
+					action.accept(word);
+					return true;
+				}
+			}
+			if (lo == hi) {
+				return false;
+			}
+			LetterNode node = nodes[lo];
+			String prefix = prefixes[lo];
+			lo++;
+			if (node != null) {
+				startSubtree(node, prefix);
+			}
+			if (node == null || node.isLeaf) {
+				remaining--;
+				action.accept(prefix);
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public Spliterator<String> trySplit() {
+		if (depth >= 0) {
+			// le sous-arbre courant est deja entame
+			return null;
+		}
+		while (hi - lo == 1 && nodes[lo] != null) {
+			expand();
+		}
+		if (hi - lo < 2) {
+			return null;
+		}
+		int mid = (lo + hi) >>> 1;
+		long count = 0;
+		for (int i = lo; i < mid; i++) {
+			count += nodes[i] == null ? 1 : nodes[i].wordCount;
+		}
+		WordSpliterator prefix = new WordSpliterator(alphabet, Arrays.copyOfRange(nodes, lo, mid),
+				Arrays.copyOfRange(prefixes, lo, mid), 0, mid - lo, count);
+		remaining -= count;
+		lo = mid;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return remaining;
+	}
+
+	@Override
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+
+	@Override
+	public Comparator<? super String> getComparator() {
+		// ordre naturel des String
+		return null;
+	}
+
+	/**
+	 * Replaces the single remaining subtree by its own word, if it is one, and the
+	 * subtrees of its children.
+	 */
+	private void expand() {
+		LetterNode node = nodes[lo];
+		String prefix = prefixes[lo];
+		int count = node.childCount() + (node.isLeaf ? 1 : 0);
+		LetterNode[] newNodes = new LetterNode[count];
+		String[] newPrefixes = new String[count];
+		int i = 0;
+		if (node.isLeaf) {
+			newPrefixes[i++] = prefix;
+		}
+		for (int j = 0; j < node.childCount(); j++) {
+			LetterNode child = node.child(j);
+			newNodes[i] = child;
+			newPrefixes[i++] = prefix + alphabet.letter(child.code);
+		}
+		nodes = newNodes;
+		prefixes = newPrefixes;
+		lo = 0;
+		hi = count;
+	}
+
+	/**
+	 * Starts the depth-first traversal of a subtree. The word of the root itself
+	 * is returned by the caller.
+	 *
+	 * @param node   The root of the subtree
+	 * @param prefix The letters leading to the root
+	 */
+	private void startSubtree(LetterNode node, String prefix) {
+		base = prefix.length();
+		if (buffer.length < base + 16) {
+			buffer = Arrays.copyOf(buffer, base + 16);
+		}
+		prefix.getChars(0, base, buffer, 0);
+		depth = 0;
+		parents[0] = node;
+		next[0] = 0;
+	}
+
+	/**
+	 * Moves to the next word of the current subtree.
+	 *
+	 * @return The next word, or null when the subtree is exhausted
+	 */
+	private String advanceInSubtree() {
+		while (depth >= 0) {
+			LetterNode parent = parents[depth];
+			if (next[depth] == parent.childCount()) {
+				parents[depth--] = null;
+				continue;
+			}
+			LetterNode child = parent.child(next[depth]++);
+			int length = base + depth;
+			if (length == buffer.length) {
+				buffer = Arrays.copyOf(buffer, buffer.length * 2);
+			}
+			buffer[length] = alphabet.letter(child.code);
+			depth++;
+			if (depth == next.length) {
+				parents = Arrays.copyOf(parents, next.length * 2);
+				next = Arrays.copyOf(next, next.length * 2);
+			}
+			parents[depth] = child;
+			next[depth] = 0;
+			if (child.isLeaf) {
+				return new String(buffer, 0, length + 1);
+			}
+		}
+		return null;
+	}
+}
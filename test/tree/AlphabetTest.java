@@ -0,0 +1,99 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AlphabetTest {
+	private static final Alphabet FOLDED = Alphabet.FRENCH.withCaseFolding().withAccentStripping();
+
+	@Test
+	void french_LegacyMapping() {
+		assertEquals(28, Alphabet.FRENCH.size());
+		assertEquals(0, Alphabet.FRENCH.code('\''));
+		assertEquals(1, Alphabet.FRENCH.code('-'));
+		assertEquals(2, Alphabet.FRENCH.code('a'));
+		assertEquals(27, Alphabet.FRENCH.code('z'));
+		assertEquals(-1, Alphabet.FRENCH.code('A'));
+		assertEquals(-1, Alphabet.FRENCH.code('é'));
+		assertEquals(-1, Alphabet.FRENCH.code('1'));
+		assertEquals('m', Alphabet.FRENCH.letter(Alphabet.FRENCH.code('m')));
+	}
+
+	@Test
+	void code_CaseFoldingAndAccentStripping() {
+		Alphabet folding = Alphabet.FRENCH.withCaseFolding();
+		assertEquals(folding.code('e'), folding.code('E'));
+		assertEquals(-1, folding.code('é'));
+		Alphabet stripping = Alphabet.FRENCH.withAccentStripping();
+		assertEquals(stripping.code('e'), stripping.code('é'));
+		assertEquals(-1, stripping.code('É'));
+		assertEquals(FOLDED.code('e'), FOLDED.code('É'));
+		assertEquals(FOLDED.code('c'), FOLDED.code('Ç'));
+		assertEquals(FOLDED.code('u'), FOLDED.code('ŭ'));
+		assertEquals(-1, FOLDED.code('œ'));
+		assertEquals(-1, FOLDED.code('€'));
+	}
+
+	@Test
+	void code_OwnLettersFirst() {
+		Alphabet alphabet = Alphabet.of("aeé").withAccentStripping();
+		assertEquals(2, alphabet.code('é'));
+		assertEquals(1, alphabet.code('ê'));
+	}
+
+	@Test
+	void normalize_General() {
+		assertEquals("hebergement", FOLDED.normalize("héberGEMent"));
+		assertEquals("aujourd'hui", FOLDED.normalize("Aujourd'hui !"));
+		assertEquals("hello", Alphabet.FRENCH.normalize("hel15lo"));
+	}
+
+	@Test
+	void of_InvalidLetters() {
+		assertThrows(IllegalArgumentException.class, () -> Alphabet.of(""));
+		assertThrows(IllegalArgumentException.class, () -> Alphabet.of("ba"));
+		assertThrows(IllegalArgumentException.class, () -> Alphabet.of("aa"));
+		assertThrows(IllegalArgumentException.class, () -> Alphabet.of("abcdefghijklmnopqrstuvwxyz0123456"));
+		assertEquals(32, Alphabet.of("0123456789abcdefghijklmnopqrstuv").size());
+	}
+
+	@Test
+	void tree_FoldedAlphabet() {
+		LexicographicTree tree = new LexicographicTree(FOLDED);
+		tree.insertWord("Hébergement");
+		tree.insertWord("été");
+		tree.insertWord("Noël");
+		assertTrue(tree.containsWord("hebergement"));
+		assertTrue(tree.containsWord("HÉBERGEMENT"));
+		assertTrue(tree.containsWord("Ete"));
+		assertFalse(tree.containsWord("ete!"));
+		assertEquals(List.of("hebergement"), tree.getWords("HéB"));
+		assertEquals(List.of("ete", "hebergement", "noel"), tree.getWords(""));
+		assertEquals(List.of("noel"), tree.getWordsMatching("NO?L"));
+		assertEquals(List.of("ete"), tree.getAnagrams("tÉe"));
+		assertEquals(List.of("noel"), tree.getWordsWithinDistance("Nowel", 1));
+		assertEquals(1, tree.rank("Hébergement"));
+		LexicographicTree.Cursor cursor = tree.cursor();
+		cursor.advance('É');
+		cursor.advance('T');
+		cursor.advance('e');
+		assertTrue(cursor.isWord());
+	}
+
+	@Test
+	void tree_SmallAlphabet() {
+		LexicographicTree tree = new LexicographicTree(Alphabet.of("ACGT"));
+		tree.insertWord("GATTACA");
+		tree.insertWord("gattaca");
+		tree.insertWord("CAT");
+		// toutes les lettres de "gattaca" sont ignorees : c'est le mot vide
+		assertEquals(List.of("", "CAT", "GATTACA"), tree.getWords(""));
+		assertFalse(tree.containsWord("gattaca"));
+		assertEquals(List.of("", "CAT"), tree.getSubAnagrams("TACG"));
+		assertEquals(List.of("CAT", "GATTACA"), new LexicographicTree.Builder(Alphabet.of("ACGT")).add("CAT")
+				.add("GATTACA").build().words("").toList());
+	}
+}
@@ -0,0 +1,69 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class ArrayLexicographicTreeTest {
+	private static final String[] WORDS = new String[] { "aide", "as", "au", "aux", "bu", "bus", "but", "et", "ete" };
+	private static final ArrayLexicographicTree DICT = new ArrayLexicographicTree();
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+	}
+
+	@Test
+	void constructor_EmptyDictionary() {
+		ArrayLexicographicTree dict = new ArrayLexicographicTree();
+		assertEquals(0, dict.size());
+		assertEquals(1, dict.nodeCount());
+	}
+
+	@Test
+	void insertWord_Duplicate() {
+		ArrayLexicographicTree dict = new ArrayLexicographicTree();
+		dict.insertWord("chat");
+		dict.insertWord("chat");
+		assertEquals(1, dict.size());
+	}
+
+	@Test
+	void containsWord_General() {
+		for (String word : WORDS) {
+			assertTrue(DICT.containsWord(word), "Mot " + word + " non trouvé");
+		}
+		for (String word : new String[] { "", "aid", "ai", "aides", "mot", "e" }) {
+			assertFalse(DICT.containsWord(word), "Mot " + word + " inexistant trouvé");
+		}
+	}
+
+	@Test
+	void getWords_General() {
+		assertArrayEquals(WORDS, DICT.getWords("").toArray());
+		assertArrayEquals(new String[] { "bu", "bus", "but" }, DICT.getWords("bu").toArray());
+		assertEquals(0, DICT.getWords("x").size());
+		assertArrayEquals(new String[] { "aux", "bus", "but", "ete" }, DICT.getWordsOfLength(3).toArray());
+		assertEquals(0, DICT.getWordsOfLength(-1).size());
+	}
+
+	@Test
+	void hasPrefixOrWord_General() {
+		assertEquals(1, DICT.hasPrefixOrWord("bu"));
+		assertEquals(0, DICT.hasPrefixOrWord("ai"));
+		assertEquals(-1, DICT.hasPrefixOrWord("bx"));
+	}
+
+	@Test
+	void sameWordsAsLetterNodeTree() {
+		LexicographicTree expected = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		ArrayLexicographicTree actual = new ArrayLexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.getWords("abai"), actual.getWords("abai"));
+		assertEquals(expected.getWordsOfLength(12), actual.getWordsOfLength(12));
+		assertTrue(actual.memoryUsage() > 0);
+	}
+}
@@ -0,0 +1,82 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentLexicographicTreeTest {
+	private static final String[] WORDS = new String[] { "aide", "as", "au", "aux", "bu", "bus", "but", "et", "ete" };
+	private static final int THREADS = 8;
+
+	@Test
+	void insertWord_General() {
+		ConcurrentLexicographicTree dict = new ConcurrentLexicographicTree();
+		for (int i = WORDS.length - 1; i >= 0; i--) {
+			dict.insertWord(WORDS[i]);
+			dict.insertWord(WORDS[i]);
+		}
+		assertEquals(WORDS.length, dict.size());
+		assertArrayEquals(WORDS, dict.getWords("").toArray());
+		assertArrayEquals(new String[] { "aux", "bus", "but", "ete" }, dict.getWordsOfLength(3).toArray());
+		assertTrue(dict.containsWord("ete"));
+		assertFalse(dict.containsWord("e"));
+		assertEquals(0, dict.hasPrefixOrWord("ai"));
+		assertEquals(-1, dict.hasPrefixOrWord("x"));
+	}
+
+	@Test
+	void stress_ConcurrentInsertAndContains() throws Exception {
+		List<String> lines = Files.readAllLines(Paths.get("mots/dictionnaire_FR_sans_accents.txt"));
+		ConcurrentLexicographicTree dict = new ConcurrentLexicographicTree();
+		// la moitie des mots est inseree avant, l'autre pendant les lectures
+		List<String> before = new ArrayList<>();
+		List<String> during = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i++) {
+			(i % 2 == 0 ? before : during).add(lines.get(i));
+		}
+		before.forEach(dict::insertWord);
+
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			final int thread = t;
+			results.add(pool.submit(() -> {
+				start.await();
+				int errors = 0;
+				// chaque mot est insere par deux threads, dans un ordre different
+				for (int i = 0; i < during.size(); i++) {
+					int index = thread % 2 == 0 ? i : during.size() - 1 - i;
+					if (index % (THREADS / 2) == thread / 2) {
+						String word = during.get(index);
+						dict.insertWord(word);
+						errors += dict.containsWord(word) ? 0 : 1;
+					}
+					String known = before.get((i * 31 + thread) % before.size());
+					errors += dict.containsWord(known) ? 0 : 1;
+					errors += dict.containsWord(known + "xx") ? 1 : 0;
+				}
+				return errors;
+			}));
+		}
+		start.countDown();
+		for (Future<Integer> result : results) {
+			assertEquals(0, result.get());
+		}
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+
+		assertEquals(lines.size(), dict.size());
+		assertEquals(new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt").getWords(""), dict.getWords(""));
+	}
+}
@@ -0,0 +1,68 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class DawgTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+	private static final String[] WORDS = new String[] { "aide", "as", "au", "aux", "bu", "bus", "but", "et", "ete" };
+	private static final Dawg DICT = Dawg.fromSortedWords(Arrays.asList(WORDS));
+	private static LexicographicTree tree;
+	private static Dawg dawg;
+
+	@BeforeAll
+	public static void initDictionaries() {
+		tree = new LexicographicTree(FILE_PATH);
+		dawg = new Dawg(FILE_PATH);
+	}
+
+	@Test
+	void fromSortedWords_General() {
+		assertEquals(WORDS.length, DICT.size());
+		assertArrayEquals(WORDS, DICT.getWords("").toArray());
+		assertArrayEquals(new String[] { "bu", "bus", "but" }, DICT.getWords("bu").toArray());
+		assertArrayEquals(new String[] { "aux", "bus", "but", "ete" }, DICT.getWordsOfLength(3).toArray());
+		assertTrue(DICT.containsWord("ete"));
+		assertFalse(DICT.containsWord("e"));
+		assertFalse(DICT.containsWord(""));
+		assertEquals(0, DICT.hasPrefixOrWord("ai"));
+		assertEquals(-1, DICT.hasPrefixOrWord("bx"));
+	}
+
+	@Test
+	void fromSortedWords_SharesSuffixes() {
+		Dawg dict = Dawg.fromSortedWords(Arrays.asList("chantaient", "dansaient", "jouaient"));
+		// the "aient" suffix is stored once
+		assertEquals("chant".length() + "dans".length() + "jou".length() + "aient".length(), dict.edgeCount());
+	}
+
+	@Test
+	void fromSortedWords_Unsorted() {
+		assertThrows(IllegalArgumentException.class, () -> Dawg.fromSortedWords(Arrays.asList("bus", "as")));
+	}
+
+	@Test
+	void sameAnswersAsLexicographicTree() {
+		assertEquals(tree.size(), dawg.size());
+		for (String prefix : new String[] { "", "abai", "ement", "zyth", "aujourd'", "a-" }) {
+			assertEquals(tree.getWords(prefix), dawg.getWords(prefix), prefix);
+			assertEquals(tree.hasPrefixOrWord(prefix), dawg.hasPrefixOrWord(prefix), prefix);
+		}
+		for (int length = 0; length <= 28; length++) {
+			assertEquals(tree.getWordsOfLength(length), dawg.getWordsOfLength(length));
+		}
+		for (String word : tree.getWords("m")) {
+			assertTrue(dawg.containsWord(word), word);
+			assertFalse(dawg.containsWord(word + "xx"), word);
+		}
+	}
+
+	@Test
+	void smallerThanLexicographicTree() {
+		assertTrue(dawg.stateCount() < new ArrayLexicographicTree(FILE_PATH).nodeCount() / 4);
+	}
+}
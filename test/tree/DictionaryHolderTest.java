@@ -0,0 +1,148 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DictionaryHolderTest {
+
+	@TempDir
+	Path dir;
+
+	private String write(String name, String... words) throws IOException {
+		Path file = dir.resolve(name);
+		Files.write(file, List.of(words));
+		return file.toString();
+	}
+
+	@Test
+	void reload_SwapsDictionary() throws IOException {
+		try (DictionaryHolder holder = new DictionaryHolder(write("v1.txt", "bu", "bus"))) {
+			LexicographicTree old = holder.get();
+			LexicographicTree next = holder.reload(write("v2.txt", "bus", "but", "chat")).join();
+			assertSame(next, holder.get());
+			assertEquals(List.of("bus", "but", "chat"), holder.get().getWords(""));
+			// une tache commencee avant garde son arbre
+			assertEquals(List.of("bu", "bus"), old.getWords(""));
+		}
+	}
+
+	@Test
+	void reload_KeepsSettings() throws IOException {
+		Alphabet folded = Alphabet.FRENCH.withCaseFolding();
+		LexicographicTree tree = new LexicographicTree(folded);
+		tree.insertWord("bus");
+		tree.enableBloomFilter(0.05);
+		tree.enableSuffixIndex();
+		try (DictionaryHolder holder = new DictionaryHolder(tree)) {
+			LexicographicTree next = holder.reload(write("v2.txt", "Abus", "Obus")).join();
+			assertEquals(folded, next.alphabet());
+			assertEquals(0.05, next.bloomFilter().targetFalsePositiveRate());
+			assertTrue(next.hasSuffixIndex());
+			assertEquals(List.of("abus", "obus"), next.getWordsEndingWith("bus"));
+		}
+	}
+
+	@Test
+	void reload_FailureKeepsDictionary() throws IOException {
+		try (DictionaryHolder holder = new DictionaryHolder(write("v1.txt", "bu"))) {
+			LexicographicTree old = holder.get();
+			CompletionException e = assertThrows(CompletionException.class,
+					() -> holder.reload(dir.resolve("absent.txt").toString()).join());
+			assertInstanceOf(UncheckedIOException.class, e.getCause());
+			assertInstanceOf(NoSuchFileException.class, e.getCause().getCause());
+			assertSame(old, holder.get());
+		}
+		assertThrows(NoSuchFileException.class, () -> new DictionaryHolder(dir.resolve("absent.txt").toString()));
+	}
+
+	@Test
+	void reload_SwapDuringLoadWins() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch swapped = new CountDownLatch(1);
+		// le rechargement lit l'alphabet de l'arbre courant juste avant de charger
+		LexicographicTree first = new LexicographicTree(Alphabet.FRENCH) {
+			@Override
+			public Alphabet alphabet() {
+				loading.countDown();
+				try {
+					swapped.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.alphabet();
+			}
+		};
+		LexicographicTree second = new LexicographicTree();
+		try (DictionaryHolder holder = new DictionaryHolder(first)) {
+			CompletableFuture<LexicographicTree> reload = holder.reload(write("v2.txt", "bus"));
+			loading.await();
+			assertSame(first, holder.swap(second));
+			swapped.countDown();
+			CompletionException e = assertThrows(CompletionException.class, reload::join);
+			assertInstanceOf(ConcurrentModificationException.class, e.getCause());
+			assertSame(second, holder.get());
+			// un rechargement demande apres le remplacement part de l'arbre remplacant
+			assertEquals(List.of("bus"), holder.reload(write("v3.txt", "bus")).join().getWords(""));
+		}
+	}
+
+	@Test
+	void swap_ReturnsPrevious() {
+		LexicographicTree first = new LexicographicTree();
+		LexicographicTree second = new LexicographicTree();
+		DictionaryHolder holder = new DictionaryHolder(first);
+		assertSame(first, holder.swap(second));
+		assertSame(second, holder.get());
+		holder.close();
+		assertThrows(RejectedExecutionException.class, () -> holder.reload("mots.txt"));
+		assertSame(second, holder.get());
+	}
+
+	@Test
+	void reload_ReadersNeverBlocked() throws Exception {
+		String v1 = write("v1.txt", "bu", "bus");
+		String v2 = write("v2.txt", "bu", "but");
+		try (DictionaryHolder holder = new DictionaryHolder(v1)) {
+			AtomicBoolean running = new AtomicBoolean(true);
+			AtomicInteger inconsistent = new AtomicInteger();
+			Thread[] readers = new Thread[4];
+			for (int i = 0; i < readers.length; i++) {
+				readers[i] = new Thread(() -> {
+					while (running.get()) {
+						LexicographicTree tree = holder.get();
+						// chaque arbre est complet : exactement l'une des deux versions
+						if (!tree.containsWord("bu") || tree.containsWord("bus") == tree.containsWord("but")) {
+							inconsistent.incrementAndGet();
+						}
+					}
+				});
+				readers[i].start();
+			}
+			for (int i = 0; i < 50; i++) {
+				holder.reload(i % 2 == 0 ? v2 : v1).join();
+			}
+			running.set(false);
+			for (Thread reader : readers) {
+				reader.join();
+			}
+			assertEquals(0, inconsistent.get());
+			assertTrue(holder.get().containsWord("bus"));
+		}
+	}
+}
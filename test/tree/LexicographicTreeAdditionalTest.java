@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -69,4 +70,91 @@ public class LexicographicTreeAdditionalTest {
         List<String> wordsOfInvalidLength = DICT.getWordsOfLength(-1);
         assertEquals(0, wordsOfInvalidLength.size());
     }
+
+    @Test
+    void containsWordCharSequence() {
+        StringBuilder word = new StringBuilder("bu");
+        assertTrue(DICT.containsWord(word));
+        word.append('s');
+        assertTrue(DICT.containsWord(word));
+        word.append('s');
+        assertFalse(DICT.containsWord(word));
+        assertFalse(DICT.containsWord(new StringBuilder()));
+    }
+
+    @Test
+    void containsWordCharArrayRange() {
+        char[] text = "un bus et".toCharArray();
+        assertTrue(DICT.containsWord(text, 3, 3));
+        assertTrue(DICT.containsWord(text, 7, 2));
+        assertFalse(DICT.containsWord(text, 0, 2));
+        assertFalse(DICT.containsWord(text, 3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> DICT.containsWord(text, 7, 5));
+    }
+
+    @Test
+    void hasPrefixOrWordOverloads() {
+        char[] text = "aides".toCharArray();
+        assertEquals(0, DICT.hasPrefixOrWord(text, 0, 2));
+        assertEquals(1, DICT.hasPrefixOrWord(text, 0, 4));
+        assertEquals(-1, DICT.hasPrefixOrWord(text, 0, 5));
+        assertEquals(1, DICT.hasPrefixOrWord(new StringBuilder("ete")));
+    }
+
+    @Test
+    void insertWordCharArrayRange() {
+        LexicographicTree tree = new LexicographicTree();
+        char[] line = "xx tire-bouchon xx".toCharArray();
+        tree.insertWord(line, 3, 12);
+        assertTrue(tree.containsWord("tire-bouchon"));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void getWordsOfLengthMatchesFilteredWords() {
+        LexicographicTree tree = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+        List<String> allWords = tree.getWords("");
+        for (int length = 0; length <= 30; length++) {
+            final int expectedLength = length;
+            assertEquals(allWords.stream().filter(word -> word.length() == expectedLength).collect(Collectors.toList()),
+                    tree.getWordsOfLength(length), "length " + length);
+        }
+    }
+
+    @Test
+    void getWordsOfLengthVeryLongWords() {
+        LexicographicTree tree = new LexicographicTree();
+        String longWord = "a".repeat(70);
+        tree.insertWord(longWord);
+        tree.insertWord(longWord + "b");
+        assertEquals(List.of(longWord), tree.getWordsOfLength(70));
+        assertEquals(List.of(longWord + "b"), tree.getWordsOfLength(71));
+        assertEquals(0, tree.getWordsOfLength(69).size());
+        assertEquals(0, tree.getWordsOfLength(72).size());
+        // autour de la longueur ou les masques saturent
+        tree.insertWord("b".repeat(30));
+        tree.insertWord("b".repeat(32));
+        assertEquals(List.of("b".repeat(30)), tree.getWordsOfLength(30));
+        assertEquals(0, tree.getWordsOfLength(31).size());
+        assertEquals(List.of("b".repeat(32)), tree.getWordsOfLength(32));
+        assertEquals(List.of("b".repeat(30), "b".repeat(32)), tree.getWordsWithinDistance("b".repeat(31), 1));
+    }
+
+    @Test
+    void fullAlphabetChildren() {
+        LexicographicTree tree = new LexicographicTree();
+        String letters = "zyxwvutsrqponmlkjihgfedcba-'";
+        for (char c : letters.toCharArray()) {
+            tree.insertWord("x" + c);
+        }
+        List<String> words = tree.getWords("x");
+        assertEquals(letters.length(), words.size());
+        assertEquals("x'", words.get(0));
+        assertEquals("x-", words.get(1));
+        assertEquals("xz", words.get(words.size() - 1));
+        for (char c : letters.toCharArray()) {
+            assertTrue(tree.containsWord("x" + c));
+        }
+        assertEquals(-1, tree.hasPrefixOrWord("x\u00e9"));
+    }
 }
@@ -0,0 +1,123 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeAnagramTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aux", "bu", "bus", "but", "chat",
+			"chien", "chine", "niche", "et", "ete", "ni", "tabu", "tu", "tub", "sua" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+	}
+
+	@Test
+	void getAnagrams_General() {
+		assertEquals(List.of("chien", "chine", "niche"), DICT.getAnagrams("niche"));
+		assertEquals(List.of("but", "tub"), DICT.getAnagrams("utb"));
+		assertEquals(List.of("a-t-il"), DICT.getAnagrams("li-ta-"));
+		assertTrue(DICT.getAnagrams("chiens").isEmpty());
+	}
+
+	@Test
+	void getSubAnagrams_General() {
+		assertEquals(List.of("as", "au", "bu", "bus", "but", "sua", "tabu", "tu", "tub"), DICT.getSubAnagrams("tubas"));
+		assertTrue(DICT.getSubAnagrams("zzz").isEmpty());
+	}
+
+	@Test
+	void getSubAnagrams_RepeatedLetters() {
+		assertEquals(List.of("et"), DICT.getSubAnagrams("etx"));
+		assertEquals(List.of("et", "ete"), DICT.getSubAnagrams("eet"));
+	}
+
+	@Test
+	void getAnagrams_Jokers() {
+		assertEquals(List.of("au", "bu", "tu"), DICT.getAnagrams("u?"));
+		assertEquals(List.of("as", "au", "bu", "et", "ni", "tu"), DICT.getAnagrams("??"));
+		assertEquals(List.of("chat"), DICT.getAnagrams("c?at"));
+	}
+
+	@Test
+	void forEachAnagram_SameAsBruteForce() {
+		String[] queries = { "", "chienta", "eeutbsa", "abc?", "?u?" };
+		for (String query : queries) {
+			for (boolean allLetters : new boolean[] { true, false }) {
+				List<String> expected = DICT.getWords("").stream().filter(w -> canForm(w, query, allLetters))
+						.collect(Collectors.toList());
+				List<String> found = new ArrayList<>();
+				DICT.forEachAnagram(query, allLetters, found::add);
+				assertEquals(expected, found, query + " / " + allLetters);
+			}
+		}
+	}
+
+	@Test
+	void forEachAnagram_Builder() {
+		LexicographicTree.Builder builder = new LexicographicTree.Builder();
+		String[] sorted = WORDS.clone();
+		Arrays.sort(sorted);
+		for (String word : sorted) {
+			builder.add(word);
+		}
+		LexicographicTree tree = builder.add("bise").build();
+		assertEquals(List.of("bus", "but", "sua", "tub"),
+				tree.getSubAnagrams("sabtu").stream().filter(w -> w.length() == 3).collect(Collectors.toList()));
+		assertEquals(List.of("chien", "chine", "niche"), tree.getAnagrams("hicen"));
+	}
+
+	@Test
+	void forEachAnagram_SameForEveryLoad() throws IOException {
+		LexicographicTree loaded = new LexicographicTree(FILE_PATH);
+		LexicographicTree parallel = LexicographicTree.loadParallel(FILE_PATH);
+		LexicographicTree inserted = new LexicographicTree();
+		List<String> lines = Files.readAllLines(Paths.get(FILE_PATH));
+		Collections.shuffle(lines, new Random(42));
+		for (String line : lines) {
+			inserted.insertWord(line);
+		}
+		for (String letters : new String[] { "aeilnrst", "ordinateur", "k?w", "zzzzyx" }) {
+			List<String> expected = loaded.getWords("").stream().filter(w -> canForm(w, letters, false))
+					.collect(Collectors.toList());
+			assertEquals(expected, loaded.getSubAnagrams(letters), letters);
+			assertEquals(expected, parallel.getSubAnagrams(letters), letters);
+			assertEquals(expected, inserted.getSubAnagrams(letters), letters);
+		}
+		assertTrue(loaded.getAnagrams("ordinateur").contains("ordinateur"));
+	}
+
+	private static boolean canForm(String word, String letters, boolean allLetters) {
+		if (allLetters && word.length() != letters.length()) {
+			return false;
+		}
+		StringBuilder left = new StringBuilder(letters);
+		for (char c : word.toCharArray()) {
+			int i = left.indexOf(String.valueOf(c));
+			if (i < 0) {
+				i = left.indexOf("?");
+			}
+			if (i < 0) {
+				return false;
+			}
+			left.deleteCharAt(i);
+		}
+		return true;
+	}
+}
@@ -0,0 +1,65 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeBatchTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aux", "bu", "bus", "but", "et",
+			"ete" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+	}
+
+	@Test
+	void containsAll_General() {
+		String[] batch = { "bus", "ai", "aide", null, "", "buse", "au", "aux", "Au", "bus", "b", "ete", "a-t-il" };
+		BitSet found = DICT.containsAll(batch);
+		for (int i = 0; i < batch.length; i++) {
+			assertEquals(DICT.containsWord(batch[i]), found.get(i), "Mot " + batch[i]);
+		}
+		assertEquals(7, found.cardinality());
+		assertTrue(DICT.containsAll(new String[0]).isEmpty());
+	}
+
+	@Test
+	void containsAll_FoldedAlphabet() {
+		LexicographicTree tree = new LexicographicTree(Alphabet.FRENCH.withCaseFolding().withAccentStripping());
+		tree.insertWord("été");
+		tree.insertWord("étés");
+		BitSet found = tree.containsAll(new String[] { "ÉTÉS", "ete", "et", "Été!" });
+		assertEquals("{0, 1}", found.toString());
+	}
+
+	@Test
+	void containsAll_SameAsContainsWord() {
+		LexicographicTree tree = new LexicographicTree(FILE_PATH);
+		List<String> batch = new ArrayList<>();
+		for (String word : tree.getWordsOfLength(7)) {
+			batch.add(word);
+			batch.add(word.substring(1));
+			batch.add(word + "s");
+		}
+		Collections.shuffle(batch, new Random(42));
+		String[] words = batch.toArray(new String[0]);
+		BitSet sequential = tree.containsAll(words);
+		BitSet parallel = tree.containsAll(words, true);
+		for (int i = 0; i < words.length; i++) {
+			assertEquals(tree.containsWord(words[i]), sequential.get(i), "Mot " + words[i]);
+		}
+		assertEquals(sequential, parallel);
+	}
+}
@@ -0,0 +1,91 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeBloomFilterTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aux", "bu", "bus", "but", "et",
+			"ete" };
+	private LexicographicTree dict;
+
+	@BeforeEach
+	void initTestDictionary() {
+		dict = new LexicographicTree();
+		for (String word : WORDS) {
+			dict.insertWord(word);
+		}
+	}
+
+	@Test
+	void enableBloomFilter_KeepsAnswers() {
+		assertNull(dict.bloomFilter());
+		BloomFilter filter = dict.enableBloomFilter(0.01);
+		assertSame(filter, dict.bloomFilter());
+		assertEquals(WORDS.length, filter.wordCount());
+		for (String word : WORDS) {
+			assertTrue(dict.containsWord(word), "Mot " + word + " non trouvé");
+			assertTrue(dict.containsWord(new StringBuilder(word)));
+			assertTrue(dict.containsWord(("[" + word + "]").toCharArray(), 1, word.length()));
+		}
+		for (String word : new String[] { "", "aid", "ai", "aides", "mot", "e", "ét" }) {
+			assertFalse(dict.containsWord(word), "Mot " + word + " inexistant trouvé");
+		}
+		assertEquals(0, dict.hasPrefixOrWord("ai"));
+	}
+
+	@Test
+	void enableBloomFilter_FollowsInsertions() {
+		dict.enableBloomFilter(0.01);
+		assertFalse(dict.containsWord("chat"));
+		dict.insertWord("chat");
+		dict.insertWord("chat", 3);
+		assertTrue(dict.containsWord("chat"));
+		assertEquals(WORDS.length + 1, dict.bloomFilter().wordCount());
+		assertTrue(dict.removeWord("chat"));
+		assertFalse(dict.containsWord("chat"));
+		dict.disableBloomFilter();
+		assertNull(dict.bloomFilter());
+		assertTrue(dict.containsWord("bus"));
+	}
+
+	@Test
+	void enableBloomFilter_FoldedAlphabet() {
+		LexicographicTree tree = new LexicographicTree(Alphabet.FRENCH.withCaseFolding().withAccentStripping());
+		tree.insertWord("Été");
+		tree.enableBloomFilter(0.01);
+		assertTrue(tree.containsWord("ete"));
+		assertTrue(tree.containsWord("ÉTÉ"));
+		assertEquals(List.of("ete"), tree.getWords(""));
+	}
+
+	@Test
+	void enableBloomFilter_InvalidRate() {
+		assertThrows(IllegalArgumentException.class, () -> dict.enableBloomFilter(0));
+		assertThrows(IllegalArgumentException.class, () -> dict.enableBloomFilter(1));
+		assertThrows(IllegalArgumentException.class, () -> dict.enableBloomFilter(Double.NaN));
+		assertNull(dict.bloomFilter());
+	}
+
+	@Test
+	void bloomFilter_Statistics() {
+		LexicographicTree tree = new LexicographicTree(FILE_PATH);
+		BloomFilter filter = tree.enableBloomFilter(0.01);
+		List<String> words = tree.getWords("");
+		assertEquals(words.size(), filter.wordCount());
+		// environ 9,6 bits par mot pour 1 %
+		assertTrue(filter.memoryUsage() < words.size() * 10L / 8 + 64);
+		assertEquals(7, filter.hashCount());
+		assertEquals(0.01, filter.estimatedFalsePositiveRate(), 0.003);
+		for (String word : words) {
+			assertTrue(tree.containsWord(word));
+			assertFalse(tree.containsWord(word + "xx"));
+		}
+		assertEquals(words.size(), filter.rejectedCount() + filter.falsePositiveCount());
+		assertEquals(0.01, filter.measuredFalsePositiveRate(), 0.003);
+	}
+}
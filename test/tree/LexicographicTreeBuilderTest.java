@@ -0,0 +1,70 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeBuilderTest {
+	private static final String[] WORDS = new String[] { "aide", "as", "au", "aux", "bu", "bus", "but", "et", "ete" };
+
+	@Test
+	void build_SortedWords() {
+		LexicographicTree.Builder builder = new LexicographicTree.Builder();
+		for (String word : WORDS) {
+			builder.add(word);
+		}
+		assertTrue(builder.isSorted());
+		LexicographicTree tree = builder.build();
+		assertEquals(WORDS.length, tree.size());
+		assertArrayEquals(WORDS, tree.getWords("").toArray());
+		assertArrayEquals(new String[] { "aux", "bus", "but", "ete" }, tree.getWordsOfLength(3).toArray());
+		assertEquals(0, tree.hasPrefixOrWord("ai"));
+	}
+
+	@Test
+	void build_UnsortedWordsFallBack() {
+		LexicographicTree.Builder builder = new LexicographicTree.Builder();
+		for (String word : new String[] { "bus", "as", "but", "aide", "bu", "ete", "au", "et", "aux", "bus" }) {
+			builder.add(word);
+		}
+		assertFalse(builder.isSorted());
+		LexicographicTree tree = builder.build();
+		assertArrayEquals(WORDS, tree.getWords("").toArray());
+		assertArrayEquals(new String[] { "aux", "bus", "but", "ete" }, tree.getWordsOfLength(3).toArray());
+	}
+
+	@Test
+	void build_SkipsInvalidCharacters() {
+		LexicographicTree tree = new LexicographicTree.Builder().add("he^^ll$o").add("").add("hel15lo2").build();
+		assertEquals(List.of("", "hello"), tree.getWords(""));
+		char[] line = "  zython\n".toCharArray();
+		tree = new LexicographicTree.Builder().add(line, 0, line.length).build();
+		assertTrue(tree.containsWord("zython"));
+	}
+
+	@Test
+	void build_CannotReuse() {
+		LexicographicTree.Builder builder = new LexicographicTree.Builder();
+		builder.build();
+		assertThrows(IllegalStateException.class, () -> builder.add("mot"));
+		assertThrows(IllegalStateException.class, builder::build);
+	}
+
+	@Test
+	void constructor_SameTreeAsInsertWord() throws IOException {
+		List<String> lines = Files.readAllLines(Paths.get("mots/dictionnaire_FR_sans_accents.txt"));
+		LexicographicTree expected = new LexicographicTree();
+		for (String line : lines) {
+			expected.insertWord(line);
+		}
+		LexicographicTree actual = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.getWords(""), actual.getWords(""));
+		assertEquals(expected.getWordsOfLength(9), actual.getWordsOfLength(9));
+	}
+}
@@ -0,0 +1,86 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeCursorTest {
+	private static final String[] WORDS = new String[] { "aide", "as", "au", "aux", "bu", "bus", "but", "et", "ete" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+	}
+
+	@Test
+	void advance_General() {
+		LexicographicTree.Cursor cursor = DICT.cursor();
+		assertEquals(0, cursor.status());
+		assertTrue(cursor.advance('b'));
+		assertEquals(0, cursor.status());
+		assertTrue(cursor.advance('u'));
+		assertEquals(1, cursor.status());
+		assertTrue(cursor.isWord());
+		assertTrue(cursor.advance('s'));
+		assertEquals(1, cursor.status());
+		assertEquals(3, cursor.length());
+	}
+
+	@Test
+	void advance_DeadPrefix() {
+		LexicographicTree.Cursor cursor = DICT.cursor();
+		cursor.advance('b');
+		assertFalse(cursor.advance('x'));
+		assertTrue(cursor.isDead());
+		assertFalse(cursor.advance('u'));
+		assertEquals(-1, cursor.status());
+		cursor.back();
+		cursor.back();
+		assertFalse(cursor.isDead());
+		assertTrue(cursor.advance('u'));
+		assertTrue(cursor.isWord());
+	}
+
+	@Test
+	void back_SameStatusAsHasPrefixOrWord() {
+		LexicographicTree.Cursor cursor = DICT.cursor();
+		String word = "auxi";
+		for (int i = 0; i < word.length(); i++) {
+			cursor.advance(word.charAt(i));
+		}
+		for (int i = word.length(); i > 0; i--) {
+			assertEquals(DICT.hasPrefixOrWord(word.substring(0, i)), cursor.status(), word.substring(0, i));
+			cursor.back();
+		}
+		assertEquals(0, cursor.length());
+		assertThrows(IllegalStateException.class, cursor::back);
+	}
+
+	@Test
+	void reset_General() {
+		LexicographicTree.Cursor cursor = DICT.cursor();
+		cursor.advance('e');
+		cursor.advance('z');
+		cursor.reset();
+		assertEquals(0, cursor.length());
+		assertTrue(cursor.advance('e'));
+		assertTrue(cursor.advance('t'));
+		assertTrue(cursor.isWord());
+	}
+
+	@Test
+	void advance_DeepPrefix() {
+		LexicographicTree tree = new LexicographicTree();
+		String word = "anticonstitutionnellement";
+		tree.insertWord(word);
+		LexicographicTree.Cursor cursor = tree.cursor();
+		for (int i = 0; i < word.length(); i++) {
+			assertTrue(cursor.advance(word.charAt(i)));
+		}
+		assertTrue(cursor.isWord());
+	}
+}
@@ -0,0 +1,96 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeFuzzyTest {
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aujourd'hui", "aux", "bu", "bus",
+			"but", "chat", "chant", "chanter", "et", "ete", "ni", "there", "the" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+	}
+
+	@Test
+	void getWordsWithinDistance_Zero() {
+		assertEquals(List.of("chat"), DICT.getWordsWithinDistance("chat", 0));
+		assertTrue(DICT.getWordsWithinDistance("chien", 0).isEmpty());
+	}
+
+	@Test
+	void getWordsWithinDistance_OneEdit() {
+		// remplacement, insertion, suppression
+		assertEquals(List.of("bu", "bus", "but"), DICT.getWordsWithinDistance("bus", 1).stream()
+				.filter(w -> w.startsWith("b")).collect(Collectors.toList()));
+		assertEquals(List.of("chant", "chat"), DICT.getWordsWithinDistance("chat", 1));
+		assertEquals(List.of("chant", "chat"), DICT.getWordsWithinDistance("chart", 1));
+		assertEquals(List.of("aide"), DICT.getWordsWithinDistance("aid", 1));
+	}
+
+	@Test
+	void getWordsWithinDistance_SameAsBruteForce() {
+		String[] queries = { "", "a", "chanteur", "tehre", "aujourdhui", "zzz", "b-t" };
+		for (String query : queries) {
+			for (int k = 0; k <= 6; k++) {
+				int maxDistance = k;
+				List<String> expected = DICT.getWords("").stream().filter(w -> distance(w, query) <= maxDistance)
+						.collect(Collectors.toList());
+				assertEquals(expected, DICT.getWordsWithinDistance(query, k), query + " / " + k);
+			}
+		}
+	}
+
+	@Test
+	void getWordsWithinDistance_LongWords() {
+		LexicographicTree tree = new LexicographicTree();
+		String longWord = "a".repeat(70);
+		tree.insertWord(longWord);
+		tree.insertWord(longWord + "bb");
+		assertEquals(List.of(longWord, longWord + "bb"), tree.getWordsWithinDistance(longWord + "b", 1));
+		assertEquals(List.of(longWord), tree.getWordsWithinDistance("a".repeat(69), 1));
+	}
+
+	@Test
+	void getWordsWithinDistance_HugeDistance() {
+		// toute distance au-dela du plus long mot rend tous les mots
+		assertEquals(DICT.getWords(""), DICT.getWordsWithinDistance("chat", Integer.MAX_VALUE));
+		assertEquals(DICT.getWords(""), DICT.getWordsWithinDistance("", 11));
+		assertEquals(List.of("aujourd'hui"), DICT.getWordsWithinDistance("", 11).stream()
+				.filter(w -> !DICT.getWordsWithinDistance("", 10).contains(w)).collect(Collectors.toList()));
+		LexicographicTree tree = new LexicographicTree();
+		tree.insertWord("a".repeat(70));
+		tree.insertWord("b");
+		assertEquals(List.of("a".repeat(70), "b"), tree.getWordsWithinDistance("chat", Integer.MAX_VALUE));
+		assertEquals(List.of("b"), tree.getWordsWithinDistance("chut", 69));
+	}
+
+	@Test
+	void getWordsWithinDistance_InvalidArguments() {
+		assertTrue(DICT.getWordsWithinDistance(null, 1).isEmpty());
+		assertTrue(DICT.getWordsWithinDistance("bus", -1).isEmpty());
+	}
+
+	private static int distance(String a, String b) {
+		int[][] d = new int[a.length() + 1][b.length() + 1];
+		for (int i = 0; i <= a.length(); i++) {
+			for (int j = 0; j <= b.length(); j++) {
+				if (i == 0 || j == 0) {
+					d[i][j] = i + j;
+				} else {
+					int replace = d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+					d[i][j] = Math.min(replace, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+				}
+			}
+		}
+		return d[a.length()][b.length()];
+	}
+}
@@ -0,0 +1,145 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LexicographicTreeLoadTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void load_SameAsReadAllLines() throws IOException {
+		LexicographicTree.Builder builder = new LexicographicTree.Builder();
+		LexicographicTree.LoadStatistics stats = builder.addAll(Path.of(FILE_PATH));
+		LexicographicTree tree = builder.build();
+		List<String> lines = Files.readAllLines(Path.of(FILE_PATH));
+		assertEquals(lines, tree.getWords(""));
+		assertEquals(lines.size(), stats.lines());
+		assertEquals(lines.size(), stats.words());
+		assertEquals(Files.size(Path.of(FILE_PATH)), stats.bytes());
+		assertEquals(-1, stats.compressedBytes());
+		assertTrue(stats.isSorted());
+		assertTrue(stats.millis() > 0);
+	}
+
+	@Test
+	void load_Gzip() throws IOException {
+		Path file = dir.resolve("mots.txt.gz");
+		try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+			Files.copy(Path.of(FILE_PATH), out);
+		}
+		LexicographicTree.Builder builder = new LexicographicTree.Builder();
+		LexicographicTree.LoadStatistics stats = builder.addAll(file);
+		assertEquals(Files.size(file), stats.compressedBytes());
+		assertEquals(Files.size(Path.of(FILE_PATH)), stats.bytes());
+		assertEquals(new LexicographicTree(FILE_PATH).getWords(""), builder.build().getWords(""));
+		assertEquals(stats.words(), new LexicographicTree(file.toString()).size());
+	}
+
+	@Test
+	void loadParallel_Gzip() throws IOException {
+		Path file = dir.resolve("mots.txt.gz");
+		try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+			out.write("bu\r\nbus\rchat\n\n".getBytes(StandardCharsets.UTF_8));
+		}
+		LexicographicTree expected = new LexicographicTree(file.toString());
+		LexicographicTree tree = LexicographicTree.loadParallel(file.toString());
+		assertEquals(4, expected.size());
+		assertEquals(expected.getWords(""), tree.getWords(""));
+		assertEquals(expected.size(), tree.size());
+		assertTrue(tree.containsWord("chat"));
+	}
+
+	@Test
+	void load_LineEndings() throws IOException {
+		Path file = dir.resolve("mots.txt");
+		Files.writeString(file, "bu\r\nbus\n\nbut\r\nbut");
+		LexicographicTree.Builder builder = new LexicographicTree.Builder();
+		LexicographicTree.LoadStatistics stats = builder.addAll(file);
+		LexicographicTree tree = builder.build();
+		assertEquals(List.of("", "bu", "bus", "but"), tree.getWords(""));
+		assertEquals(5, stats.lines());
+		assertEquals(4, stats.words());
+		assertFalse(stats.isSorted());
+
+		Files.writeString(file, "bu\rbus\rchat\r");
+		builder = new LexicographicTree.Builder();
+		stats = builder.addAll(file);
+		assertEquals(List.of("bu", "bus", "chat"), builder.build().getWords(""));
+		assertEquals(3, stats.lines());
+
+		// un octet par lecture : chaque "\r\n" est coupe entre deux blocs
+		byte[] text = "bu\r\nbus\r\n\r\nchat".getBytes(StandardCharsets.US_ASCII);
+		builder = new LexicographicTree.Builder();
+		stats = builder.addAll(Channels.newChannel(new ByteArrayInputStream(text) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, 1));
+			}
+		}), StandardCharsets.US_ASCII);
+		assertEquals(List.of("", "bu", "bus", "chat"), builder.build().getWords(""));
+		assertEquals(4, stats.lines());
+	}
+
+	@Test
+	void load_AcrossBufferBoundaries() throws IOException {
+		Alphabet folded = Alphabet.FRENCH.withCaseFolding().withAccentStripping();
+		StringBuilder text = new StringBuilder();
+		LexicographicTree expected = new LexicographicTree(folded);
+		for (int i = 0; text.length() < 300_000; i++) {
+			String word = "été" + "é".repeat(i % 7) + Integer.toString(i, 26).replace('0', 'ç');
+			expected.insertWord(word);
+			text.append(word).append('\n');
+		}
+		String longWord = "a".repeat(200_000);
+		text.append(longWord);
+		Path file = dir.resolve("accents.txt");
+		Files.writeString(file, text);
+		LexicographicTree tree = LexicographicTree.load(file.toString(), folded);
+		assertEquals(expected.size() + 1, tree.size());
+		assertTrue(tree.containsWord(longWord));
+		assertEquals(expected.getWords("eteee"), tree.getWords("eteee"));
+	}
+
+	@Test
+	void load_ChannelOfAnyStream() throws IOException {
+		byte[] text = "chat\nchien\n".getBytes(StandardCharsets.ISO_8859_1);
+		LexicographicTree.Builder builder = new LexicographicTree.Builder();
+		builder.add("bus");
+		LexicographicTree.LoadStatistics stats = builder
+				.addAll(Channels.newChannel(new ByteArrayInputStream(text)), StandardCharsets.ISO_8859_1);
+		assertEquals(2, stats.lines());
+		assertEquals(2, stats.words());
+		assertEquals(List.of("bus", "chat", "chien"), builder.build().getWords(""));
+	}
+
+	@Test
+	void load_Errors() throws IOException {
+		Path missing = dir.resolve("absent.txt");
+		assertThrows(NoSuchFileException.class, () -> LexicographicTree.load(missing.toString()));
+		assertEquals(0, new LexicographicTree(missing.toString()).size());
+
+		Path invalid = dir.resolve("invalid.txt");
+		Files.write(invalid, new byte[] { 'b', 'u', '\n', (byte) 0xc3, '(', '\n' });
+		assertThrows(MalformedInputException.class, () -> LexicographicTree.load(invalid.toString()));
+		LexicographicTree tree = new LexicographicTree(invalid.toString());
+		assertEquals(0, tree.size());
+		assertTrue(tree.getWords("").isEmpty());
+	}
+}
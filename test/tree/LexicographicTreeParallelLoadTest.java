@@ -0,0 +1,64 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LexicographicTreeParallelLoadTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+
+	@TempDir
+	static Path tempDir;
+
+	@Test
+	void loadParallel_SameAsConstructor() throws IOException {
+		LexicographicTree expected = new LexicographicTree(FILE_PATH);
+		LexicographicTree actual = LexicographicTree.loadParallel(FILE_PATH);
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.getWords(""), actual.getWords(""));
+		for (int length = 0; length <= 28; length++) {
+			assertEquals(expected.getWordsOfLength(length), actual.getWordsOfLength(length));
+		}
+		assertEquals(1, actual.hasPrefixOrWord("zythum"));
+	}
+
+	@Test
+	void loadParallel_UnsortedFile() throws IOException {
+		Path file = tempDir.resolve("unsorted.txt");
+		Files.write(file, List.of("bus", "as", "", "But", "aide", "bu", "-e", "ete", "au", "et", "aux", "bus", "12"));
+		LexicographicTree expected = new LexicographicTree(file.toString());
+		LexicographicTree actual = LexicographicTree.loadParallel(file.toString());
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.getWords(""), actual.getWords(""));
+		assertEquals(expected.getWordsOfLength(0), actual.getWordsOfLength(0));
+		assertEquals(expected.getWordsOfLength(2), actual.getWordsOfLength(2));
+	}
+
+	@Test
+	void loadParallel_CrLineEndings() throws IOException {
+		Path file = tempDir.resolve("crlf.txt");
+		Files.writeString(file, "bus\r\nas\rbu\n\r\nzoo");
+		LexicographicTree actual = LexicographicTree.loadParallel(file.toString());
+		assertEquals(List.of("", "as", "bu", "bus", "zoo"), actual.getWords(""));
+	}
+
+	@Test
+	void loadParallel_MissingFile() {
+		assertThrows(NoSuchFileException.class, () -> LexicographicTree.loadParallel("mots/missing.txt"));
+	}
+
+	@Test
+	void loadParallel_InvalidUtf8() throws IOException {
+		Path file = tempDir.resolve("latin1.txt");
+		Files.write(file, new byte[] { 'e', 't', '\n', (byte) 0xe9, 't', 'e', '\n' });
+		assertThrows(CharacterCodingException.class, () -> LexicographicTree.loadParallel(file.toString()));
+	}
+}
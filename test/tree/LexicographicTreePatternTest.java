@@ -0,0 +1,86 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreePatternTest {
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aujourd'hui", "aux", "bu", "bus",
+			"but", "chat", "chant", "chanter", "et", "ete", "ni", "there", "the" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+	}
+
+	@Test
+	void getWordsMatching_FixedLetters() {
+		assertEquals(List.of("bus"), DICT.getWordsMatching("bus"));
+		assertTrue(DICT.getWordsMatching("bux").isEmpty());
+	}
+
+	@Test
+	void getWordsMatching_AnyLetter() {
+		assertEquals(List.of("bus", "but"), DICT.getWordsMatching("bu?"));
+		assertEquals(List.of("aux", "bus", "but", "ete", "the"), DICT.getWordsMatching("???"));
+		assertEquals(List.of("a-t-il"), DICT.getWordsMatching("a?t?il"));
+	}
+
+	@Test
+	void getWordsMatching_LetterSets() {
+		assertEquals(List.of("as", "au", "bu"), DICT.getWordsMatching("[ab][su]"));
+		assertEquals(List.of("au", "bu"), DICT.getWordsMatching("[^e]u"));
+		assertEquals(List.of("chant", "chanter", "chat"), DICT.getWordsMatching("cha[nt]*"));
+	}
+
+	@Test
+	void getWordsMatching_Star() {
+		assertEquals(List.of("chant", "chanter", "chat"), DICT.getWordsMatching("ch*"));
+		assertEquals(List.of("au", "aujourd'hui", "aux"), DICT.getWordsMatching("au*"));
+		assertEquals(List.of("chanter", "there"), DICT.getWordsMatching("*er*"));
+		assertEquals(List.of("aide", "chanter", "et", "ete", "the", "there"), DICT.getWordsMatching("*e*"));
+		assertEquals(List.of("the", "there"), DICT.getWordsMatching("*th*e*"));
+		assertEquals(DICT.getWords(""), DICT.getWordsMatching("*"));
+	}
+
+	@Test
+	void getWordsMatching_NoDuplicates() {
+		// plusieurs facons de lire "aujourd'hui" avec les etoiles
+		assertEquals(List.of("aujourd'hui"), DICT.getWordsMatching("*u*u*"));
+	}
+
+	@Test
+	void getWordsMatching_EmptyPattern() {
+		assertTrue(DICT.getWordsMatching("").isEmpty());
+		LexicographicTree tree = new LexicographicTree();
+		tree.insertWord("");
+		assertEquals(List.of(""), tree.getWordsMatching(""));
+	}
+
+	@Test
+	void getWordsMatching_SameAsRegex() {
+		String[] patterns = { "?u*", "*t", "[abc]*[st]", "??*", "*[^aeiou]", "c*t*", "e?e" };
+		for (String pattern : patterns) {
+			Pattern regex = Pattern.compile(pattern.replace("?", ".").replace("*", ".*"));
+			List<String> expected = DICT.getWords("").stream().filter(w -> regex.matcher(w).matches())
+					.collect(Collectors.toList());
+			assertEquals(expected, DICT.getWordsMatching(pattern), pattern);
+		}
+	}
+
+	@Test
+	void getWordsMatching_InvalidPattern() {
+		assertThrows(IllegalArgumentException.class, () -> DICT.getWordsMatching("a[bc"));
+		assertThrows(IllegalArgumentException.class, () -> DICT.getWordsMatching("AB"));
+		assertThrows(IllegalArgumentException.class, () -> DICT.getWordsMatching("a[b1]"));
+		assertThrows(IllegalArgumentException.class, () -> DICT.getWordsMatching("?".repeat(64)));
+	}
+}
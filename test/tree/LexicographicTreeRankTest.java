@@ -0,0 +1,104 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeRankTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aux", "bu", "bus", "but", "et",
+			"ete" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+		DICT.insertWord("bus");
+	}
+
+	@Test
+	void size_IgnoresDuplicates() {
+		assertEquals(WORDS.length, DICT.size());
+		LexicographicTree tree = new LexicographicTree();
+		tree.insertWord("");
+		tree.insertWord("");
+		assertEquals(1, tree.size());
+	}
+
+	@Test
+	void countWithPrefix_General() {
+		assertEquals(5, DICT.countWithPrefix("a"));
+		assertEquals(3, DICT.countWithPrefix("bu"));
+		assertEquals(1, DICT.countWithPrefix("ete"));
+		assertEquals(0, DICT.countWithPrefix("c"));
+		assertEquals(WORDS.length, DICT.countWithPrefix(""));
+	}
+
+	@Test
+	void rank_PresentWords() {
+		for (int i = 0; i < WORDS.length; i++) {
+			assertEquals(i, DICT.rank(WORDS[i]), WORDS[i]);
+		}
+	}
+
+	@Test
+	void rank_MissingWords() {
+		assertEquals(0, DICT.rank(""));
+		assertEquals(0, DICT.rank("a"));
+		assertEquals(5, DICT.rank("b"));
+		assertEquals(6, DICT.rank("bua"));
+		assertEquals(8, DICT.rank("c"));
+		assertEquals(10, DICT.rank("zz"));
+		// ordre des char : les majuscules avant les minuscules
+		assertEquals(5, DICT.rank("bZ"));
+	}
+
+	@Test
+	void select_General() {
+		for (int i = 0; i < WORDS.length; i++) {
+			assertEquals(WORDS[i], DICT.select(i));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> DICT.select(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> DICT.select(WORDS.length));
+	}
+
+	@Test
+	void wordSpliterator_ExactSize() {
+		Spliterator<String> spliterator = DICT.wordSpliterator("");
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+		assertEquals(WORDS.length, spliterator.getExactSizeIfKnown());
+		Spliterator<String> prefix = spliterator.trySplit();
+		assertEquals(WORDS.length, prefix.estimateSize() + spliterator.estimateSize());
+		prefix.tryAdvance(w -> {
+		});
+		assertEquals(WORDS.length - 1, prefix.estimateSize() + spliterator.estimateSize());
+		assertEquals(3, DICT.wordSpliterator("bu").getExactSizeIfKnown());
+		assertArrayEquals(WORDS, DICT.words("").parallel().toArray());
+	}
+
+	@Test
+	void rankAndSelect_EveryLoad() throws IOException {
+		LexicographicTree loaded = new LexicographicTree(FILE_PATH);
+		LexicographicTree parallel = LexicographicTree.loadParallel(FILE_PATH);
+		List<String> words = loaded.getWords("");
+		assertEquals(words.size(), loaded.size());
+		assertEquals(words.size(), parallel.size());
+		for (int i = 0; i < words.size(); i += 997) {
+			String word = words.get(i);
+			assertEquals(i, loaded.rank(word));
+			assertEquals(i, parallel.rank(word));
+			assertEquals(word, loaded.select(i));
+			assertEquals(word, parallel.select(i));
+		}
+		assertEquals(words.stream().filter(w -> w.startsWith("pre")).count(), parallel.countWithPrefix("pre"));
+		assertEquals(Arrays.asList(words.toArray()), parallel.words("").parallel().toList());
+	}
+}
@@ -0,0 +1,127 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeRemoveTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aux", "bu", "bus", "but", "et",
+			"ete" };
+	private LexicographicTree dict;
+
+	@BeforeEach
+	void initTestDictionary() {
+		dict = new LexicographicTree();
+		for (String word : WORDS) {
+			dict.insertWord(word);
+		}
+	}
+
+	@Test
+	void removeWord_Leaf() {
+		assertTrue(dict.removeWord("aux"));
+		assertFalse(dict.containsWord("aux"));
+		assertTrue(dict.containsWord("au"));
+		assertEquals(-1, dict.hasPrefixOrWord("aux"));
+		assertEquals(WORDS.length - 1, dict.size());
+	}
+
+	@Test
+	void removeWord_InnerWord() {
+		assertTrue(dict.removeWord("bu"));
+		assertFalse(dict.containsWord("bu"));
+		assertEquals(0, dict.hasPrefixOrWord("bu"));
+		assertEquals(List.of("bus", "but"), dict.getWords("b"));
+	}
+
+	@Test
+	void removeWord_UnlinksEmptyBranch() {
+		assertTrue(dict.removeWord("a-t-il"));
+		assertEquals(-1, dict.hasPrefixOrWord("a-"));
+		assertEquals(0, dict.hasPrefixOrWord("ai"));
+		assertTrue(dict.removeWord("ete"));
+		assertTrue(dict.removeWord("et"));
+		assertEquals(-1, dict.hasPrefixOrWord("e"));
+	}
+
+	@Test
+	void removeWord_Missing() {
+		assertFalse(dict.removeWord("b"));
+		assertFalse(dict.removeWord("buse"));
+		assertFalse(dict.removeWord(""));
+		assertFalse(dict.removeWord(null));
+		assertTrue(dict.removeWord("bus"));
+		assertFalse(dict.removeWord("bus"));
+		assertEquals(WORDS.length - 1, dict.size());
+	}
+
+	@Test
+	void removeWord_UpdatesSummaries() {
+		dict.insertWord("bus", 40);
+		dict.insertWord("but", 10);
+		dict.removeWord("bus");
+		assertEquals(List.of("but", "bu"), dict.topK("b", 2));
+		dict.removeWord("a-t-il");
+		assertTrue(dict.getWordsOfLength(6).isEmpty());
+		assertEquals(List.of("aide"), dict.getWordsOfLength(4));
+		dict.removeWord("aide");
+		assertEquals(List.of("as", "au"), dict.getAnagrams("??").subList(0, 2));
+		assertEquals(List.of("au", "aux", "bu", "but"), dict.getSubAnagrams("uxatb"));
+		assertEquals(2, dict.countWithPrefix("bu"));
+		assertEquals(3, dict.rank("bu"));
+	}
+
+	@Test
+	void removeWord_EveryWord() {
+		for (String word : WORDS) {
+			assertTrue(dict.removeWord(word));
+		}
+		assertEquals(0, dict.size());
+		assertTrue(dict.getWords("").isEmpty());
+		assertEquals(-1, dict.hasPrefixOrWord("a"));
+		dict.insertWord("bus");
+		assertEquals(List.of("bus"), dict.getWords(""));
+		assertEquals(List.of("bus"), dict.getAnagrams("sub"));
+	}
+
+	@Test
+	void compact_KeepsWords() {
+		dict.insertWord("bus", 30);
+		dict.removeWord("aux");
+		dict.compact();
+		List<String> expected = new ArrayList<>(List.of(WORDS));
+		expected.remove("aux");
+		assertEquals(expected, dict.getWords(""));
+		assertEquals(30, dict.getWeight("bus"));
+		assertEquals(expected.size(), dict.size());
+		dict.insertWord("aux");
+		assertTrue(dict.containsWord("aux"));
+	}
+
+	@Test
+	void removeWord_HalfOfDictionary() {
+		LexicographicTree tree = new LexicographicTree(FILE_PATH);
+		List<String> words = tree.getWords("");
+		List<String> kept = new ArrayList<>();
+		for (int i = 0; i < words.size(); i++) {
+			if (i % 2 == 0) {
+				assertTrue(tree.removeWord(words.get(i)));
+			} else {
+				kept.add(words.get(i));
+			}
+		}
+		tree.compact();
+		assertEquals(kept.size(), tree.size());
+		assertEquals(kept, tree.getWords(""));
+		for (int length = 0; length <= 28; length++) {
+			int expectedLength = length;
+			assertEquals(kept.stream().filter(w -> w.length() == expectedLength).count(),
+					tree.getWordsOfLength(length).size());
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeStreamTest {
+	private static final String[] WORDS = new String[] { "aide", "as", "au", "aux", "bu", "bus", "but", "et", "ete" };
+	private static final LexicographicTree DICT = new LexicographicTree();
+	private static LexicographicTree dictionary;
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+		dictionary = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+	}
+
+	@Test
+	void wordIterator_General() {
+		List<String> words = new ArrayList<>();
+		DICT.wordIterator("").forEachRemaining(words::add);
+		assertArrayEquals(WORDS, words.toArray());
+
+		Iterator<String> iterator = DICT.wordIterator("bu");
+		assertEquals("bu", iterator.next());
+		assertEquals("bus", iterator.next());
+		assertEquals("but", iterator.next());
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+
+		assertFalse(DICT.wordIterator("x").hasNext());
+		assertFalse(new LexicographicTree().wordIterator("").hasNext());
+	}
+
+	@Test
+	void words_SameAsGetWords() {
+		for (String prefix : new String[] { "", "abai", "zy", "aujourd'" }) {
+			assertEquals(dictionary.getWords(prefix), dictionary.words(prefix).collect(Collectors.toList()), prefix);
+		}
+	}
+
+	@Test
+	void words_EarlyTermination() {
+		assertEquals(List.of("a-cote", "a-cotes", "a-coup"), dictionary.words("").limit(3).collect(Collectors.toList()));
+		assertEquals("abaissa", dictionary.words("abai").findFirst().orElse(null));
+	}
+
+	@Test
+	void words_Parallel() {
+		List<String> expected = dictionary.getWords("");
+		assertEquals(expected, dictionary.words("").parallel().collect(Collectors.toList()));
+		assertEquals(expected.size(), dictionary.words("").parallel().count());
+		assertEquals(dictionary.getWords("ma"), dictionary.words("ma").parallel().collect(Collectors.toList()));
+	}
+
+	@Test
+	void wordSpliterator_SplitsBySubtree() {
+		Spliterator<String> second = DICT.wordSpliterator("");
+		Spliterator<String> first = second.trySplit();
+		assertNotNull(first);
+		assertTrue(second.hasCharacteristics(Spliterator.SORTED));
+
+		List<String> words = new ArrayList<>();
+		first.forEachRemaining(words::add);
+		second.forEachRemaining(words::add);
+		assertArrayEquals(WORDS, words.toArray());
+	}
+}
@@ -0,0 +1,115 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeSuffixTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aux", "bu", "bus", "but", "et",
+			"ete" };
+	private LexicographicTree dict;
+
+	@BeforeEach
+	void initTestDictionary() {
+		dict = new LexicographicTree();
+		for (String word : WORDS) {
+			dict.insertWord(word);
+		}
+	}
+
+	@Test
+	void getWordsEndingWith_WithoutIndex() {
+		assertFalse(dict.hasSuffixIndex());
+		assertEquals(List.of("as", "bus"), dict.getWordsEndingWith("s"));
+		assertEquals(List.of("au", "bu"), dict.getWordsEndingWith("u"));
+		assertEquals(List.of("aide", "ete"), dict.getWordsEndingWith("e"));
+		assertEquals(List.of("ete"), dict.getWordsEndingWith("ete"));
+		assertTrue(dict.getWordsEndingWith("aete").isEmpty());
+		assertTrue(dict.getWordsEndingWith("S").isEmpty());
+		assertEquals(List.of(WORDS), dict.getWordsEndingWith(""));
+	}
+
+	@Test
+	void getWordsEndingWith_WithIndex() {
+		dict.enableSuffixIndex();
+		assertTrue(dict.hasSuffixIndex());
+		assertEquals(List.of("as", "bus"), dict.getWordsEndingWith("s"));
+		assertEquals(List.of("a-t-il"), dict.getWordsEndingWith("-il"));
+		assertEquals(List.of("ete"), dict.getWordsEndingWith("ete"));
+		assertTrue(dict.getWordsEndingWith("aete").isEmpty());
+		assertTrue(dict.getWordsEndingWith("S").isEmpty());
+		assertEquals(List.of(WORDS), dict.getWordsEndingWith(""));
+	}
+
+	@Test
+	void enableSuffixIndex_FollowsChanges() {
+		dict.enableSuffixIndex();
+		dict.insertWord("abus");
+		dict.insertWord("obus", 5);
+		assertTrue(dict.removeWord("bus"));
+		assertFalse(dict.removeWord("bus"));
+		assertEquals(List.of("abus", "as", "obus"), dict.getWordsEndingWith("s"));
+		dict.compact();
+		assertEquals(List.of("abus", "obus"), dict.getWordsEndingWith("bus"));
+		dict.disableSuffixIndex();
+		assertFalse(dict.hasSuffixIndex());
+		assertEquals(List.of("abus", "obus"), dict.getWordsEndingWith("bus"));
+	}
+
+	@Test
+	void getWordsEndingWith_FoldedAlphabet() {
+		LexicographicTree tree = new LexicographicTree(Alphabet.FRENCH.withCaseFolding().withAccentStripping());
+		tree.insertWord("Été");
+		tree.insertWord("Noël");
+		assertEquals(List.of("ete"), tree.getWordsEndingWith("TÉ"));
+		tree.enableSuffixIndex();
+		assertEquals(List.of("ete"), tree.getWordsEndingWith("TÉ"));
+		assertEquals(List.of("noel"), tree.getWordsEndingWith("ël"));
+	}
+
+	@Test
+	void getWordsContaining_General() {
+		assertEquals(List.of("a-t-il", "but", "et", "ete"), dict.getWordsContaining("t"));
+		assertEquals(List.of("bu", "bus", "but"), dict.getWordsContaining("bu"));
+		assertEquals(List.of("aux"), dict.getWordsContaining("ux"));
+		assertEquals(List.of("a-t-il"), dict.getWordsContaining("-t-"));
+		assertTrue(dict.getWordsContaining("tu").isEmpty());
+		assertTrue(dict.getWordsContaining("U").isEmpty());
+		assertEquals(List.of(WORDS), dict.getWordsContaining(""));
+	}
+
+	@Test
+	void getWordsContaining_OverlappingInfix() {
+		LexicographicTree tree = new LexicographicTree();
+		for (String word : new String[] { "aab", "abab", "ababa", "abba", "baaab", "bababa" }) {
+			tree.insertWord(word);
+		}
+		assertEquals(List.of("ababa", "bababa"), tree.getWordsContaining("ababa"));
+		assertEquals(List.of("abab", "ababa", "bababa"), tree.getWordsContaining("abab"));
+		assertEquals(List.of("aab", "baaab"), tree.getWordsContaining("aab"));
+	}
+
+	@Test
+	void sameAnswersAsFullScan() {
+		LexicographicTree tree = new LexicographicTree(FILE_PATH);
+		List<String> all = tree.getWords("");
+		for (String suffix : new String[] { "tion", "ment", "x", "eaux", "ssions", "q", "zzz" }) {
+			List<String> expected = all.stream().filter(w -> w.endsWith(suffix)).collect(Collectors.toList());
+			assertEquals(expected, tree.getWordsEndingWith(suffix), suffix);
+		}
+		for (String infix : new String[] { "oeu", "tion", "ana", "anana", "k", "-t-", "ww" }) {
+			List<String> expected = all.stream().filter(w -> w.contains(infix)).collect(Collectors.toList());
+			assertEquals(expected, tree.getWordsContaining(infix), infix);
+		}
+		tree.enableSuffixIndex();
+		for (String suffix : new String[] { "tion", "ment", "x", "eaux", "ssions", "q", "zzz" }) {
+			List<String> expected = all.stream().filter(w -> w.endsWith(suffix)).collect(Collectors.toList());
+			assertEquals(expected, tree.getWordsEndingWith(suffix), suffix);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LexicographicTreeTopKTest {
+	private LexicographicTree dict;
+
+	@BeforeEach
+	void initTestDictionary() {
+		dict = new LexicographicTree();
+		dict.insertWord("maison", 50);
+		dict.insertWord("main", 80);
+		dict.insertWord("mais", 120);
+		dict.insertWord("mai", 5);
+		dict.insertWord("malade", 10);
+		dict.insertWord("mare", 0);
+		dict.insertWord("pas", 200);
+	}
+
+	@Test
+	void topK_General() {
+		assertEquals(List.of("mais", "main", "maison"), dict.topK("ma", 3));
+		assertEquals(List.of("pas", "mais"), dict.topK("", 2));
+		assertEquals(List.of("mais", "maison"), dict.topK("mais", 5));
+	}
+
+	@Test
+	void topK_TiesInAlphabeticOrder() {
+		dict.insertWord("mardi", 10);
+		dict.insertWord("mal", 10);
+		assertEquals(List.of("mal", "malade", "mardi", "mai", "mare"), dict.topK("ma", 10).subList(3, 8));
+	}
+
+	@Test
+	void topK_Unweighted() {
+		LexicographicTree tree = new LexicographicTree();
+		for (String word : new String[] { "mare", "mai", "pas", "main", "mais" }) {
+			tree.insertWord(word);
+		}
+		tree.insertWord("malade", 0);
+		assertEquals(List.of("mai", "main", "mais"), tree.topK("ma", 3));
+		assertEquals(0, tree.getWeight("malade"));
+		tree.setWeight("pas", 3);
+		assertEquals(List.of("pas", "mai"), tree.topK("", 2));
+		tree.removeWord("pas");
+		assertEquals(List.of("mai", "main"), tree.topK("", 2));
+	}
+
+	@Test
+	void topK_MissingPrefix() {
+		assertTrue(dict.topK("xy", 3).isEmpty());
+		assertTrue(dict.topK("ma", 0).isEmpty());
+	}
+
+	@Test
+	void setWeight_UpdatesRanking() {
+		assertTrue(dict.setWeight("mais", 1));
+		assertEquals(List.of("main", "maison", "malade"), dict.topK("ma", 3));
+		assertTrue(dict.setWeight("mare", 500));
+		assertEquals(List.of("mare", "pas"), dict.topK("", 2));
+		assertFalse(dict.setWeight("ma", 10));
+		assertFalse(dict.setWeight("manger", 10));
+	}
+
+	@Test
+	void getWeight_General() {
+		assertEquals(120, dict.getWeight("mais"));
+		assertEquals(0, dict.getWeight("mare"));
+		assertEquals(-1, dict.getWeight("ma"));
+		dict.insertWord("mare");
+		assertEquals(0, dict.getWeight("mare"));
+		dict.insertWord("ma-is", 7);
+		assertEquals(7, dict.getWeight("ma-is"));
+	}
+
+	@Test
+	void insertWord_NegativeWeight() {
+		assertThrows(IllegalArgumentException.class, () -> dict.insertWord("mot", -1));
+		assertThrows(IllegalArgumentException.class, () -> dict.setWeight("mais", -1));
+	}
+
+	@Test
+	void topK_SameAsSortingAllWords() {
+		LexicographicTree tree = new LexicographicTree();
+		Random random = new Random(7);
+		for (int i = 0; i < 2000; i++) {
+			StringBuilder word = new StringBuilder();
+			int length = 1 + random.nextInt(6);
+			for (int j = 0; j < length; j++) {
+				word.append((char) ('a' + random.nextInt(4)));
+			}
+			tree.insertWord(word.toString(), random.nextInt(50));
+		}
+		for (String prefix : new String[] { "", "a", "bc", "dda" }) {
+			List<String> expected = tree.getWords(prefix).stream()
+					.sorted(Comparator.comparingInt((String w) -> -tree.getWeight(w)).thenComparing(w -> w)).limit(15)
+					.collect(Collectors.toList());
+			assertEquals(expected, tree.topK(prefix, 15), prefix);
+		}
+	}
+}
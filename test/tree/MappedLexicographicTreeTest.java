@@ -0,0 +1,123 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedLexicographicTreeTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+	private static final String[] WORDS = new String[] { "aide", "as", "au", "aux", "bu", "bus", "but", "et", "ete" };
+	private static LexicographicTree tree;
+
+	@TempDir
+	static Path tempDir;
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		tree = new LexicographicTree(FILE_PATH);
+	}
+
+	@Test
+	void save_SmallTree() throws IOException {
+		LexicographicTree dict = new LexicographicTree();
+		for (String word : WORDS) {
+			dict.insertWord(word);
+		}
+		String snapshot = tempDir.resolve("small.lxt").toString();
+		dict.save(snapshot);
+		MappedLexicographicTree mapped = new MappedLexicographicTree(snapshot);
+
+		assertEquals(WORDS.length, mapped.size());
+		assertArrayEquals(WORDS, mapped.getWords("").toArray());
+		assertArrayEquals(new String[] { "bu", "bus", "but" }, mapped.getWords("bu").toArray());
+		assertArrayEquals(new String[] { "aux", "bus", "but", "ete" }, mapped.getWordsOfLength(3).toArray());
+		assertTrue(mapped.containsWord("aide"));
+		assertFalse(mapped.containsWord("aid"));
+		assertEquals(0, mapped.hasPrefixOrWord("ai"));
+		assertEquals(-1, mapped.hasPrefixOrWord("x"));
+	}
+
+	@Test
+	void save_EmptyTree() throws IOException {
+		String snapshot = tempDir.resolve("empty.lxt").toString();
+		new LexicographicTree().save(snapshot);
+		MappedLexicographicTree mapped = new MappedLexicographicTree(snapshot);
+		assertEquals(0, mapped.size());
+		assertEquals(0, mapped.getWords("").size());
+		assertFalse(mapped.containsWord("a"));
+	}
+
+	@Test
+	void save_Dictionary() throws IOException {
+		String snapshot = tempDir.resolve("dictionary.lxt").toString();
+		tree.save(snapshot);
+		MappedLexicographicTree mapped = new MappedLexicographicTree(snapshot);
+
+		assertEquals(tree.size(), mapped.size());
+		assertEquals(tree.getWords("abai"), mapped.getWords("abai"));
+		assertEquals(tree.getWordsOfLength(7), mapped.getWordsOfLength(7));
+		assertTrue(mapped.containsWord("aujourd'hui"));
+		assertFalse(mapped.containsWord("aujourd'huixx"));
+	}
+
+	@Test
+	void save_Dawg() throws IOException {
+		String snapshot = tempDir.resolve("dawg.lxt").toString();
+		new Dawg(FILE_PATH).save(snapshot);
+		MappedLexicographicTree mapped = new MappedLexicographicTree(snapshot);
+
+		assertEquals(tree.size(), mapped.size());
+		assertEquals(tree.getWords("zy"), mapped.getWords("zy"));
+		assertEquals(tree.getWordsOfLength(20), mapped.getWordsOfLength(20));
+	}
+
+	@Test
+	void save_RecordsAlphabet() throws IOException {
+		Alphabet folded = Alphabet.FRENCH.withCaseFolding();
+		LexicographicTree dict = new LexicographicTree(folded);
+		dict.insertWord("Bus");
+		dict.insertWord("chat");
+		String snapshot = tempDir.resolve("folded.lxt").toString();
+		dict.save(snapshot);
+
+		MappedLexicographicTree mapped = new MappedLexicographicTree(snapshot, folded);
+		assertEquals(folded, mapped.alphabet());
+		assertEquals(dict.getWords(""), mapped.getWords(""));
+		// les requetes sont ramenees a l'alphabet, comme dans l'arbre d'origine
+		assertTrue(mapped.containsWord("BUS"));
+		assertEquals(dict.getWords("B"), mapped.getWords("B"));
+		assertEquals(dict.hasPrefixOrWord("Ch"), mapped.hasPrefixOrWord("Ch"));
+		assertEquals(folded, new MappedLexicographicTree(snapshot).alphabet());
+		assertThrows(IOException.class, () -> new MappedLexicographicTree(snapshot, Alphabet.FRENCH));
+	}
+
+	@Test
+	void save_DawgHasNoAlphabet() throws IOException {
+		String snapshot = tempDir.resolve("raw.lxt").toString();
+		new Dawg("mots/dictionnaire_FR_test_1.txt").save(snapshot);
+		assertNull(new MappedLexicographicTree(snapshot).alphabet());
+		assertThrows(IOException.class, () -> new MappedLexicographicTree(snapshot, Alphabet.FRENCH));
+	}
+
+	@Test
+	void constructor_NotASnapshot() {
+		assertThrows(IOException.class, () -> new MappedLexicographicTree(FILE_PATH));
+		assertThrows(IOException.class, () -> new MappedLexicographicTree("mots/missing.lxt"));
+	}
+
+	@Test
+	void constructor_TruncatedSnapshot() throws IOException {
+		Path snapshot = tempDir.resolve("truncated.lxt");
+		new Dawg("mots/dictionnaire_FR_test_1.txt").save(snapshot.toString());
+		byte[] bytes = Files.readAllBytes(snapshot);
+		Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 4));
+		assertThrows(IOException.class, () -> new MappedLexicographicTree(snapshot.toString()));
+	}
+}
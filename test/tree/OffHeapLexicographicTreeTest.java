@@ -0,0 +1,129 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapLexicographicTreeTest {
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aux", "bu", "bus", "but", "et",
+			"ete" };
+	private static final OffHeapLexicographicTree DICT = new OffHeapLexicographicTree();
+
+	@BeforeAll
+	public static void initTestDictionary() {
+		for (String word : WORDS) {
+			DICT.insertWord(word);
+		}
+	}
+
+	@AfterAll
+	public static void closeTestDictionary() {
+		DICT.close();
+	}
+
+	@Test
+	void constructor_EmptyDictionary() {
+		try (OffHeapLexicographicTree dict = new OffHeapLexicographicTree()) {
+			assertEquals(0, dict.size());
+			assertEquals(1, dict.nodeCount());
+			assertTrue(dict.getWords("").isEmpty());
+			assertTrue(dict.memoryUsage() <= 1024 * 24);
+		}
+	}
+
+	@Test
+	void insertWord_Duplicate() {
+		try (OffHeapLexicographicTree dict = new OffHeapLexicographicTree()) {
+			dict.insertWord("chat");
+			dict.insertWord("chat");
+			assertEquals(1, dict.size());
+			assertEquals(1, dict.wordCount());
+			assertEquals(5, dict.nodeCount());
+		}
+	}
+
+	@Test
+	void containsWord_General() {
+		for (String word : WORDS) {
+			assertTrue(DICT.containsWord(word), "Mot " + word + " non trouvé");
+		}
+		for (String word : new String[] { "", "aid", "ai", "aides", "mot", "e", "ét" }) {
+			assertFalse(DICT.containsWord(word), "Mot " + word + " inexistant trouvé");
+		}
+	}
+
+	@Test
+	void getWords_General() {
+		assertEquals(List.of(WORDS), DICT.getWords(""));
+		assertEquals(List.of("bu", "bus", "but"), DICT.getWords("bu"));
+		assertTrue(DICT.getWords("x").isEmpty());
+		assertEquals(List.of("aux", "bus", "but", "ete"), DICT.getWordsOfLength(3));
+		assertTrue(DICT.getWordsOfLength(-1).isEmpty());
+	}
+
+	@Test
+	void hasPrefixOrWord_General() {
+		assertEquals(1, DICT.hasPrefixOrWord("bu"));
+		assertEquals(0, DICT.hasPrefixOrWord("ai"));
+		assertEquals(-1, DICT.hasPrefixOrWord("bx"));
+	}
+
+	@Test
+	void alphabet_Folded() {
+		try (OffHeapLexicographicTree dict = new OffHeapLexicographicTree(
+				Alphabet.FRENCH.withCaseFolding().withAccentStripping())) {
+			dict.insertWord("Été");
+			assertTrue(dict.containsWord("ete"));
+			assertEquals(List.of("ete"), dict.getWords("É"));
+		}
+	}
+
+	@Test
+	void close_ReleasesTree() {
+		OffHeapLexicographicTree dict = new OffHeapLexicographicTree();
+		dict.insertWord("chat");
+		dict.close();
+		dict.close();
+		assertEquals(0, dict.size());
+		assertEquals(0, dict.memoryUsage());
+		assertThrows(IllegalStateException.class, () -> dict.insertWord("chat"));
+		assertThrows(IllegalStateException.class, () -> dict.containsWord("chat"));
+	}
+
+	@Test
+	void insertWord_BeyondFirstChunk() {
+		try (OffHeapLexicographicTree dict = new OffHeapLexicographicTree()) {
+			// mots de 5 lettres en base 26 : plus de 2^20 noeuds
+			char[] word = new char[5];
+			for (int n = 0; n < 1_200_000; n++) {
+				for (int i = 4, m = n; i >= 0; i--, m /= 26) {
+					word[i] = (char) ('a' + m % 26);
+				}
+				dict.insertWord(new String(word));
+			}
+			assertEquals(1_200_000, dict.wordCount());
+			assertTrue(dict.nodeCount() > 1 << 20);
+			assertEquals(2L * (1 << 20) * 24, dict.memoryUsage());
+			assertTrue(dict.containsWord("aaaaa"));
+			assertTrue(dict.containsWord(new String(word)));
+			assertEquals(List.of("aaaaa", "aaaab"), dict.getWords("aaaa").subList(0, 2));
+		}
+	}
+
+	@Test
+	void sameWordsAsLetterNodeTree() {
+		LexicographicTree expected = new LexicographicTree("mots/dictionnaire_FR_sans_accents.txt");
+		try (OffHeapLexicographicTree actual = new OffHeapLexicographicTree(
+				"mots/dictionnaire_FR_sans_accents.txt")) {
+			assertEquals(expected.size(), actual.size());
+			assertEquals(expected.getWords("abai"), actual.getWords("abai"));
+			assertEquals(expected.getWordsOfLength(12), actual.getWordsOfLength(12));
+			assertEquals(expected.getWords(""), actual.getWords(""));
+			assertTrue(actual.memoryUsage() >= actual.nodeCount() * 24);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package tree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OverlayLexiconTest {
+	private static final String FILE_PATH = "mots/dictionnaire_FR_sans_accents.txt";
+	private static final String[] WORDS = new String[] { "a-t-il", "aide", "as", "au", "aux", "bu", "bus", "but", "et",
+			"ete" };
+	private LexicographicTree base;
+	private OverlayLexicon view;
+
+	@BeforeEach
+	void initTestDictionary() {
+		base = new LexicographicTree();
+		for (String word : WORDS) {
+			base.insertWord(word);
+		}
+		view = new OverlayLexicon(base);
+	}
+
+	@Test
+	void constructor_SameWordsAsBase() {
+		assertEquals(WORDS.length, view.size());
+		assertEquals(List.of(WORDS), view.getWords(""));
+		assertEquals(base.getWordsOfLength(3), view.getWordsOfLength(3));
+		assertSame(base, view.base());
+	}
+
+	@Test
+	void insertWord_AddsWithoutTouchingBase() {
+		view.insertWord("bar");
+		view.insertWord("zut");
+		view.insertWord("bus");
+		view.insertWord("bar!");
+		view.insertWord("");
+		assertEquals(WORDS.length + 2, view.size());
+		assertEquals(2, view.addedCount());
+		assertTrue(view.containsWord("bar"));
+		assertEquals(List.of("bar", "bu", "bus", "but"), view.getWords("b"));
+		assertEquals(List.of("aux", "bar", "bus", "but", "ete", "zut"), view.getWordsOfLength(3));
+		assertFalse(base.containsWord("bar"));
+		assertEquals(WORDS.length, base.size());
+	}
+
+	@Test
+	void removeWord_HidesBaseWords() {
+		assertTrue(view.removeWord("bus"));
+		assertFalse(view.removeWord("bus"));
+		assertFalse(view.removeWord("bar"));
+		assertFalse(view.containsWord("bus"));
+		assertTrue(base.containsWord("bus"));
+		assertEquals(List.of("bu", "but"), view.getWords("b"));
+		assertEquals(WORDS.length - 1, view.size());
+		assertEquals(1, view.removedCount());
+
+		view.insertWord("bus");
+		assertTrue(view.containsWord("bus"));
+		assertEquals(0, view.removedCount());
+		assertEquals(0, view.addedCount());
+
+		view.insertWord("bar");
+		assertTrue(view.removeWord("bar"));
+		assertEquals(0, view.addedCount());
+		assertEquals(WORDS.length, view.size());
+	}
+
+	@Test
+	void hasPrefixOrWord_AcrossLayers() {
+		assertEquals(1, view.hasPrefixOrWord("bu"));
+		view.removeWord("bu");
+		assertEquals(0, view.hasPrefixOrWord("bu"));
+		view.removeWord("bus");
+		view.removeWord("but");
+		assertEquals(-1, view.hasPrefixOrWord("bu"));
+		assertEquals(-1, view.hasPrefixOrWord("b"));
+		view.insertWord("bar");
+		assertEquals(0, view.hasPrefixOrWord("b"));
+		assertEquals(1, view.hasPrefixOrWord("bar"));
+		assertEquals(-1, view.hasPrefixOrWord("bx"));
+		assertEquals(0, view.hasPrefixOrWord(""));
+	}
+
+	@Test
+	void wordIterator_Exhausted() {
+		view.removeWord("ete");
+		view.insertWord("f");
+		Iterator<String> iterator = view.wordIterator("e");
+		assertEquals("et", iterator.next());
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+	}
+
+	@Test
+	void viewsShareBase() {
+		OverlayLexicon other = new OverlayLexicon(base);
+		view.insertWord("bar");
+		other.removeWord("bu");
+		assertTrue(view.containsWord("bu"));
+		assertFalse(other.containsWord("bar"));
+		assertEquals(List.of("bar", "bu", "bus", "but"), view.getWords("b"));
+		assertEquals(List.of("bus", "but"), other.getWords("b"));
+	}
+
+	@Test
+	void sameWordsAsModifiedCopy() {
+		LexicographicTree shared = new LexicographicTree(FILE_PATH);
+		LexicographicTree copy = new LexicographicTree(FILE_PATH);
+		OverlayLexicon tenant = new OverlayLexicon(shared);
+		List<String> words = shared.getWords("ma");
+		for (int i = 0; i < words.size(); i += 3) {
+			assertTrue(tenant.removeWord(words.get(i)));
+			copy.removeWord(words.get(i));
+		}
+		List<String> extra = new ArrayList<>();
+		for (String word : words.subList(0, 300)) {
+			extra.add(word + "zz");
+		}
+		for (String word : extra) {
+			tenant.insertWord(word);
+			copy.insertWord(word);
+		}
+		assertEquals(copy.size(), tenant.size());
+		assertEquals(copy.getWords("ma"), tenant.getWords("ma"));
+		assertEquals(copy.getWordsOfLength(9), tenant.getWordsOfLength(9));
+		for (String prefix : new String[] { "mai", "maz", "mab", "manz", "x" }) {
+			assertEquals(copy.hasPrefixOrWord(prefix), tenant.hasPrefixOrWord(prefix), prefix);
+		}
+		assertEquals(words.stream().filter(copy::containsWord).collect(Collectors.toList()),
+				words.stream().filter(tenant::containsWord).collect(Collectors.toList()));
+	}
+}